@@ -25,13 +25,15 @@
 package com.nmalygin.superb.jdbc.api;
 
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * An object representing a batch of operations.
  *
  * @author Nikolai Malygin
  */
-public interface Batch extends AutoCloseable {
+public interface Batch extends Configurable<Batch>, AutoCloseable {
 
     /**
      * Adding an operation to the batch.
@@ -59,4 +61,17 @@ public interface Batch extends AutoCloseable {
      */
     @Override
     void close() throws SQLException;
+
+    /**
+     * Apply the batch to the database on the executor. The batch must not be used until the future is completed.
+     *
+     * @param executor executor of the batch
+     * @return Future completed when the batch is applied or with the failure of the batch
+     */
+    default CompletableFuture<Void> applyAsync(final Executor executor) {
+        return new AsyncCall<Void>(() -> {
+            apply();
+            return null;
+        }, executor).future();
+    }
 }
@@ -41,4 +41,25 @@ public interface Batches {
      * @throws SQLException if a database access error occurs or database connection is closed
      */
     Batch batch(String sql) throws SQLException;
+
+    /**
+     * Loads all operations of the source with one batch, applying the batch every chunkSize operations.
+     *
+     * @param sql Parameterized sql query
+     * @param source Source of the arguments of the operations
+     * @param chunkSize Number of operations applied at once
+     * @return Number of operations applied
+     * @throws SQLException if a database access error occurs or database connection is closed
+     */
+    default long load(final String sql, final BatchSource source, final int chunkSize) throws SQLException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        try (Batch batch = new ChunkedBatch(batch(sql), chunkSize)) {
+            final long operations = source.putInto(batch);
+            batch.apply();
+
+            return operations;
+        }
+    }
 }
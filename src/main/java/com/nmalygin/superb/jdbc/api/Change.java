@@ -25,13 +25,15 @@
 package com.nmalygin.superb.jdbc.api;
 
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a database query like DML or DDL.
  *
  * @author Nikolai Malygin
  */
-public interface Change {
+public interface Change extends Configurable<Change> {
 
     /**
      * Apply the change to the database.
@@ -39,4 +41,17 @@ public interface Change {
      * @throws SQLException if a database access error occurs or connection is closed
      */
     void apply() throws SQLException;
+
+    /**
+     * Apply the change to the database on the executor.
+     *
+     * @param executor executor of the change
+     * @return Future completed when the change is applied or with the failure of the change
+     */
+    default CompletableFuture<Void> applyAsync(final Executor executor) {
+        return new AsyncCall<Void>(() -> {
+            apply();
+            return null;
+        }, executor).future();
+    }
 }
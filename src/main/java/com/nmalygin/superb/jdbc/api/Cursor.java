@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api;
+
+import java.sql.SQLException;
+
+/**
+ * A cursor over the result set of a {@link Query}. The cursor keeps the JDBC resources open while the rows
+ * are consumed one at a time, so it must be closed as soon as it is no longer needed.
+ *
+ * @param <T> Type of the row value
+ * @author Nikolai Malygin
+ */
+public interface Cursor<T> extends AutoCloseable {
+
+    /**
+     * Moves the cursor to the next row.
+     *
+     * @return true if the new current row is valid; false if there are no more rows
+     * @throws SQLException if a database access error occurs or this method is called on a closed cursor
+     */
+    boolean next() throws SQLException;
+
+    /**
+     *
+     * @return Value of the current row
+     * @throws SQLException if a database access error occurs or this method is called on a closed cursor
+     */
+    T value() throws SQLException;
+
+    /**
+     * Releases the result set, the statement and (if the cursor owns it) the connection.
+     *
+     * @throws SQLException if a database access error occurs
+     */
+    @Override
+    void close() throws SQLException;
+}
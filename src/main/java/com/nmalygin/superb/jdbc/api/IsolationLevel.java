@@ -41,4 +41,14 @@ public interface IsolationLevel {
      * @throws SQLException SQLException
      */
     void applyTo(Connection connection) throws SQLException;
+
+    /**
+     * The JDBC constant of the isolation level, used to skip applying a level that the connection already has.
+     *
+     * @return One of the {@code Connection.TRANSACTION_*} constants, {@link Connection#TRANSACTION_NONE} if unknown,
+     * then the level is always applied
+     */
+    default int level() {
+        return Connection.TRANSACTION_NONE;
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api;
+
+import com.nmalygin.superb.jdbc.api.arguments.Named;
+
+/**
+ * An immutable template with :name parameters. The SQL is parsed once into positional SQL and the positions of every
+ * name, binding puts each argument to all positions of its name. A template is thread-safe.
+ *
+ * @author Nikolai Malygin
+ */
+public interface NamedTemplate {
+
+    /**
+     *
+     * @param arguments Arguments for all names of the template
+     * @return New not thread-safe {@link Query} with the arguments, appending to it does not change the template
+     */
+    Query query(Named... arguments);
+
+    /**
+     *
+     * @param arguments Arguments for all names of the template
+     * @return The {@link Change} with the arguments
+     */
+    Change change(Named... arguments);
+
+    /**
+     * Positional arguments of the operation of a {@link Batch} created with {@link #parameterizedSql()}.
+     *
+     * @param arguments Arguments for all names of the template
+     * @return Arguments in the order of the positional parameters
+     */
+    Argument[] positional(Named... arguments);
+
+    /**
+     *
+     * @return SQL with ? placeholders instead of the names
+     */
+    String parameterizedSql();
+}
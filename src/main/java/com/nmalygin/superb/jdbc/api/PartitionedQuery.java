@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api;
+
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A query executed as several queries over the ranges of a key, each on its own connection.
+ *
+ * @author Nikolai Malygin
+ */
+public interface PartitionedQuery extends Configurable<PartitionedQuery> {
+    /**
+     *
+     * @param resultSetHandlers supplier of a handler for every range, handlers are used concurrently
+     * @param combiner combiner of the results of the ranges, applied in the order of the ranges
+     * @param executor executor of the queries of the ranges
+     * @return Combined result of the handlers
+     * @param <R> Type of the resultSetHandler result
+     * @throws SQLException SQLException of the first failed range in the order of the ranges, with the failures of
+     * the later ranges suppressed. After the first failure the queries of the ranges that have not started are cancelled
+     */
+    <R> R executeWith(Supplier<? extends ResultSetHandler<R>> resultSetHandlers,
+                      BinaryOperator<R> combiner,
+                      Executor executor) throws SQLException;
+}
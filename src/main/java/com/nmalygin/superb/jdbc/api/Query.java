@@ -24,14 +24,20 @@
 
 package com.nmalygin.superb.jdbc.api;
 
+import com.nmalygin.superb.jdbc.api.flow.CursorPublisher;
+import com.nmalygin.superb.jdbc.api.flow.Publisher;
+import com.nmalygin.superb.jdbc.api.handlers.columns.Column;
+
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a data retrieval query.
  *
  * @author Nikolai Malygin
  */
-public interface Query extends Appendable<Query> {
+public interface Query extends Appendable<Query>, Configurable<Query> {
     /**
      *
      * @param resultSetHandler handler of result set of the query
@@ -40,4 +46,41 @@ public interface Query extends Appendable<Query> {
      * @throws SQLException SQLException
      */
     <R> R executeWith(ResultSetHandler<R> resultSetHandler) throws SQLException;
+
+    /**
+     * Executes the query and opens a cursor over its result set. Rows are read from the database
+     * one at a time while the cursor is consumed, so the result set is never materialized in memory.
+     *
+     * @param column column (row mapping) applied to every row of the result set
+     * @return Open cursor that must be closed by the caller
+     * @param <T> Type of the row value
+     * @throws SQLException SQLException
+     */
+    <T> Cursor<T> cursor(Column<T> column) throws SQLException;
+
+    /**
+     * Creates a publisher of the rows of the query. The rows are fetched according to the demand of the
+     * subscriber, and the connection is released on completion, error or cancellation.
+     *
+     * @param column column (row mapping) applied to every row of the result set
+     * @param executor executor of the blocking reads
+     * @return Publisher of the rows
+     * @param <T> Type of the row value
+     */
+    default <T> Publisher<T> publisher(final Column<T> column, final Executor executor) {
+        return new CursorPublisher<>(this, column, executor);
+    }
+
+    /**
+     * Executes the query on the executor. The query is skipped if the future is cancelled before the query starts.
+     *
+     * @param resultSetHandler handler of result set of the query
+     * @param executor executor of the query
+     * @return Future completed with the result of the resultSetHandler work or with the failure of the query
+     * @param <R> Type of the resultSetHandler result
+     */
+    default <R> CompletableFuture<R> executeWithAsync(final ResultSetHandler<R> resultSetHandler,
+                                                      final Executor executor) {
+        return new AsyncCall<>(() -> executeWith(resultSetHandler), executor).future();
+    }
 }
@@ -24,6 +24,8 @@
 
 package com.nmalygin.superb.jdbc.api;
 
+import com.nmalygin.superb.jdbc.api.settings.DriverDefaults;
+
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -43,4 +45,14 @@ public interface ResultSetHandler<R> {
      * @throws SQLException SQLException
      */
     R handle(ResultSet resultSet) throws SQLException;
+
+    /**
+     * Setting the handler needs on the statement, e.g. a row limit of a handler that reads only the first rows.
+     * It is applied after the settings of the query.
+     *
+     * @return Setting of the statement
+     */
+    default Setting setting() {
+        return new DriverDefaults();
+    }
 }
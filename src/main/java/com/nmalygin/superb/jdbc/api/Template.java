@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api;
+
+/**
+ * An immutable statement prepared once for many executions: its parameterized SQL and number of parameters are
+ * computed when the template is created. A template is thread-safe, binding arguments creates a new lightweight
+ * execution, so one template can be shared by all threads.
+ *
+ * @author Nikolai Malygin
+ */
+public interface Template {
+
+    /**
+     *
+     * @param arguments Arguments for all parameters of the template
+     * @return New not thread-safe {@link Query} with the arguments, appending to it does not change the template
+     */
+    Query query(Argument... arguments);
+
+    /**
+     *
+     * @param arguments Arguments for all parameters of the template
+     * @return The {@link Change} with the arguments
+     */
+    Change change(Argument... arguments);
+
+    /**
+     *
+     * @return Number of parameters of the template
+     */
+    int parameters();
+}
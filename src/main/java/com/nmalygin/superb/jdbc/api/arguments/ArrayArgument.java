@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.arguments;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A SQL array argument, e.g. for {@code WHERE id = ANY(?)}. A single placeholder takes a list of any size, but the
+ * driver has to support {@link java.sql.Connection#createArrayOf(String, Object[])}.
+ * <p>
+ * Every execution creates its own {@link Array}, so the argument can be shared by concurrent executions of a template.
+ * The Array is not freed by the argument: it is owned by the driver, which keeps it at most for the duration of the
+ * transaction in which it was created and releases it with the transaction or the connection.
+ *
+ * @author Nikolai Malygin
+ */
+public final class ArrayArgument implements Argument {
+
+    private final String typeName;
+    private final Object[] elements;
+
+    /**
+     *
+     * @param typeName SQL name of the type of the elements, e.g. BIGINT
+     * @param elements elements of the array
+     */
+    public ArrayArgument(final String typeName, final Object... elements) {
+        this.typeName = typeName;
+        this.elements = elements.clone();
+    }
+
+    @Override
+    public void pass(final PreparedStatement preparedStatement, final int position) throws SQLException {
+        final Array array = preparedStatement.getConnection().createArrayOf(typeName, elements);
+        preparedStatement.setArray(position, array);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.arguments;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A binary argument with the remaining bytes of a heap or direct buffer. A heap buffer is passed as a slice of its
+ * array, a direct buffer is streamed to the driver, neither is copied into a new byte[] here. The buffer is shared:
+ * its content must not be modified until the statement (or the batch) is executed, its position is not changed.
+ *
+ * @author Nikolai Malygin
+ */
+public final class ByteBufferArgument implements Argument {
+
+    private final ByteBuffer value;
+
+    /**
+     *
+     * @param value buffer, the bytes between its position and limit are passed
+     */
+    public ByteBufferArgument(final ByteBuffer value) {
+        this.value = value.duplicate();
+    }
+
+    @Override
+    public void pass(final PreparedStatement preparedStatement, final int position) throws SQLException {
+        if (value.hasArray()) {
+            new ByteSliceArgument(value.array(), value.arrayOffset() + value.position(), value.remaining())
+                    .pass(preparedStatement, position);
+        } else {
+            preparedStatement.setBinaryStream(
+                    position,
+                    new BufferInputStream(value.duplicate()),
+                    value.remaining()
+            );
+        }
+    }
+}
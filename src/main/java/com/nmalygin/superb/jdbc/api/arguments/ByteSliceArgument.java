@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.arguments;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+
+import java.io.ByteArrayInputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A binary argument that wraps a caller-owned array or a slice of it without copying. Unlike {@link BytesArgument},
+ * the array is shared, so it must not be modified until the statement (or the batch) is executed.
+ *
+ * @author Nikolai Malygin
+ */
+public final class ByteSliceArgument implements Argument {
+
+    private final byte[] array;
+    private final int offset;
+    private final int length;
+
+    /**
+     *
+     * @param array shared array
+     * @param offset index of the first byte of the slice
+     * @param length number of bytes in the slice
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    public ByteSliceArgument(final byte[] array, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IllegalArgumentException(
+                    "Slice [" + offset + ", " + offset + " + " + length + ") is out of an array of " + array.length
+            );
+        }
+        this.array = array;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     *
+     * @param array shared array
+     */
+    public ByteSliceArgument(final byte[] array) {
+        this(array, 0, array.length);
+    }
+
+    @Override
+    public void pass(final PreparedStatement preparedStatement, final int position) throws SQLException {
+        if (offset == 0 && length == array.length) {
+            preparedStatement.setBytes(position, array);
+        } else {
+            preparedStatement.setBinaryStream(position, new ByteArrayInputStream(array, offset, length), length);
+        }
+    }
+}
@@ -31,7 +31,7 @@ import java.sql.SQLException;
 import java.util.Arrays;
 
 /**
- * A byte array argument
+ * A byte array argument, the array is copied (see {@link ByteSliceArgument} to share it)
  *
  * @author Nikolai Malygin
  */
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.arguments;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A binary argument read by the driver from the channel, see {@link BinaryStreamArgument}
+ *
+ * @author Nikolai Malygin
+ */
+public final class ChannelArgument implements Argument {
+
+    private final Argument origin;
+
+    /**
+     *
+     * @param value channel of the bytes
+     * @param length number of bytes in the channel, -1 if unknown
+     */
+    public ChannelArgument(final ReadableByteChannel value, final long length) {
+        this.origin = new BinaryStreamArgument(Channels.newInputStream(value), length);
+    }
+
+    /**
+     *
+     * @param value channel of the bytes, read to the end
+     */
+    public ChannelArgument(final ReadableByteChannel value) {
+        this(value, -1);
+    }
+
+    @Override
+    public void pass(final PreparedStatement preparedStatement, final int position) throws SQLException {
+        origin.pass(preparedStatement, position);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.arguments;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A character argument read by the driver from the reader with {@link PreparedStatement#setCharacterStream},
+ * the content is not materialized in a String. The reader is not closed.
+ *
+ * @author Nikolai Malygin
+ */
+public final class CharacterStreamArgument implements Argument {
+
+    private final Reader value;
+    private final long length;
+
+    /**
+     *
+     * @param value reader of the characters
+     * @param length number of characters in the reader, -1 if unknown
+     */
+    public CharacterStreamArgument(final Reader value, final long length) {
+        this.value = value;
+        this.length = length;
+    }
+
+    /**
+     *
+     * @param value reader of the characters, read to the end
+     */
+    public CharacterStreamArgument(final Reader value) {
+        this(value, -1);
+    }
+
+    @Override
+    public void pass(final PreparedStatement preparedStatement, final int position) throws SQLException {
+        if (length < 0) {
+            preparedStatement.setCharacterStream(position, value);
+        } else {
+            preparedStatement.setCharacterStream(position, value, length);
+        }
+    }
+}
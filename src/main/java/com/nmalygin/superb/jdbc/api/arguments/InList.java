@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.arguments;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.Query;
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Values of an IN (...) list. The placeholders are padded to a power of two by repeating the last value, so lists of
+ * different sizes share a few statement shapes, and a list larger than the chunk size is executed in chunks.
+ *
+ * @author Nikolai Malygin
+ */
+public final class InList {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private final Argument[] values;
+    private final int chunkSize;
+
+    /**
+     *
+     * @param chunkSize maximum number of values of an execution, rounded up to a power of two
+     * @param values values of the list
+     */
+    public InList(final int chunkSize, final List<? extends Argument> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("An IN list must have at least one value");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.values = values.toArray(new Argument[0]);
+        this.chunkSize = bucket(chunkSize);
+    }
+
+    /**
+     *
+     * @param values values of the list, executed in chunks of 1024 values
+     */
+    public InList(final List<? extends Argument> values) {
+        this(CHUNK_SIZE, values);
+    }
+
+    /**
+     *
+     * @param values values of the list, executed in chunks of 1024 values
+     */
+    public InList(final Argument... values) {
+        this(Arrays.asList(values));
+    }
+
+    /**
+     *
+     * @return Comma separated placeholders for the padded values, without the parentheses
+     */
+    public String placeholders() {
+        final int size = bucket(values.length);
+        final StringBuilder placeholders = new StringBuilder(size * 3);
+        placeholders.append('?');
+        for (int index = 1; index < size; index++) {
+            placeholders.append(", ?");
+        }
+
+        return placeholders.toString();
+    }
+
+    /**
+     *
+     * @return Values padded to the number of the placeholders with the last value
+     */
+    public Argument[] arguments() {
+        final Argument[] arguments = Arrays.copyOf(values, bucket(values.length));
+        Arrays.fill(arguments, values.length, arguments.length, values[values.length - 1]);
+
+        return arguments;
+    }
+
+    /**
+     *
+     * @return Lists of at most chunk size values
+     */
+    public List<InList> chunks() {
+        final List<InList> chunks = new ArrayList<>((values.length + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < values.length; from += chunkSize) {
+            chunks.add(new InList(
+                    chunkSize,
+                    Arrays.asList(values).subList(from, Math.min(from + chunkSize, values.length))
+            ));
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Executes the query for every chunk of the list one by one.
+     *
+     * @param query query of a chunk, e.g. {@code chunk -> queries.query("... IN (" + chunk.placeholders() + ")",
+     *              chunk.arguments())}
+     * @param resultSetHandlers supplier of a handler for every chunk
+     * @param combiner combiner of the results of the chunks, applied in the order of the chunks
+     * @return Combined result of the handlers
+     * @param <R> Type of the resultSetHandler result
+     * @throws SQLException SQLException of the first failed chunk
+     */
+    public <R> R executeWith(final Function<InList, Query> query,
+                             final Supplier<? extends ResultSetHandler<R>> resultSetHandlers,
+                             final BinaryOperator<R> combiner) throws SQLException {
+        final List<InList> chunks = chunks();
+        R result = query.apply(chunks.get(0)).executeWith(resultSetHandlers.get());
+        for (int index = 1; index < chunks.size(); index++) {
+            result = combiner.apply(result, query.apply(chunks.get(index)).executeWith(resultSetHandlers.get()));
+        }
+
+        return result;
+    }
+
+    private static int bucket(final int size) {
+        return size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+}
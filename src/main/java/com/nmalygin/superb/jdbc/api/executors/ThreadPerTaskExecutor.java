@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.executors;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * ThreadPerTaskExecutor starts a new thread for every task. By default the threads are virtual when running on
+ * Java 21+ and daemon platform threads otherwise, so blocking JDBC calls can be issued concurrently without
+ * sizing a pool.
+ *
+ * @author Nikolai Malygin
+ */
+public final class ThreadPerTaskExecutor implements Executor {
+
+    private final ThreadFactory threadFactory;
+
+    /**
+     *
+     * @param threadFactory factory of the thread of every task
+     */
+    public ThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Uses virtual threads when they are available.
+     */
+    public ThreadPerTaskExecutor() {
+        this(new VirtualThreadFactory());
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        threadFactory.newThread(command).start();
+    }
+}
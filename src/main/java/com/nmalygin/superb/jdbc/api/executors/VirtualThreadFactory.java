@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.executors;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory of virtual threads, looked up reflectively because the library is compiled for Java 8. The factory method is
+ * taken from the public {@code Thread.Builder} interface, the builder class itself is not accessible. Falls back to
+ * daemon platform threads on older runtimes.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class VirtualThreadFactory implements ThreadFactory {
+
+    private final ThreadFactory origin;
+
+    VirtualThreadFactory(final ThreadFactory origin) {
+        this.origin = origin;
+    }
+
+    VirtualThreadFactory() {
+        this(available());
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        return origin.newThread(runnable);
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static ThreadFactory available() {
+        ThreadFactory factory;
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            factory = (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            factory = runnable -> {
+                final Thread thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+
+        return factory;
+    }
+}
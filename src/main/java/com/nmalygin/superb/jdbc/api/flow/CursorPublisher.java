@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.flow;
+
+import com.nmalygin.superb.jdbc.api.Query;
+import com.nmalygin.superb.jdbc.api.handlers.columns.Column;
+
+import java.util.concurrent.Executor;
+
+/**
+ * CursorPublisher emits the rows of a {@link Query} read through a cursor. The query is executed when the subscriber
+ * requests the first rows, rows are fetched only as far as they are requested and the cursor (with its connection)
+ * is closed on completion, error or cancellation. All reads happen on the executor.
+ *
+ * @param <T> Type of the emitted rows
+ * @author Nikolai Malygin
+ */
+public final class CursorPublisher<T> implements Publisher<T> {
+
+    private final Query query;
+    private final Column<T> column;
+    private final Executor executor;
+
+    /**
+     *
+     * @param query the query
+     * @param column column (row mapping) applied to every row
+     * @param executor executor of the blocking reads
+     */
+    public CursorPublisher(final Query query, final Column<T> column, final Executor executor) {
+        this.query = query;
+        this.column = column;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        subscriber.onSubscribe(new CursorSubscription<>(new LazyCursor<>(query, column), subscriber, executor));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.flow;
+
+import com.nmalygin.superb.jdbc.api.Cursor;
+
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class CursorSubscription<T> implements Subscription, Runnable {
+
+    private final Cursor<T> cursor;
+    private final Subscriber<? super T> subscriber;
+    private final Executor executor;
+    private final AtomicLong demand;
+    private final AtomicInteger work;
+    private final AtomicBoolean cancelled;
+    private final AtomicBoolean done;
+    private final AtomicReference<IllegalArgumentException> rejected;
+
+    CursorSubscription(final Cursor<T> cursor,
+                       final Subscriber<? super T> subscriber,
+                       final Executor executor) {
+        this.cursor = cursor;
+        this.subscriber = subscriber;
+        this.executor = executor;
+        this.demand = new AtomicLong();
+        this.work = new AtomicInteger();
+        this.cancelled = new AtomicBoolean();
+        this.done = new AtomicBoolean();
+        this.rejected = new AtomicReference<>();
+    }
+
+    @Override
+    public void request(final long rows) {
+        if (rows <= 0) {
+            rejected.compareAndSet(null, new IllegalArgumentException("Non-positive request: " + rows));
+            cancelled.set(true);
+        } else {
+            demand.accumulateAndGet(rows, (current, increment) -> current + increment < 0
+                    ? Long.MAX_VALUE
+                    : current + increment);
+        }
+        schedule();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled.set(true);
+        schedule();
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        while (missed != 0) {
+            if (!done.get()) {
+                drain();
+            }
+            missed = work.addAndGet(-missed);
+        }
+    }
+
+    private void schedule() {
+        if (work.getAndIncrement() == 0) {
+            executor.execute(this);
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void drain() {
+        try {
+            while (!cancelled.get() && demand.get() > 0 && !done.get()) {
+                if (cursor.next()) {
+                    demand.decrementAndGet();
+                    subscriber.onNext(cursor.value());
+                } else {
+                    done.set(true);
+                    cursor.close();
+                    subscriber.onComplete();
+                }
+            }
+            if (cancelled.get() && !done.get()) {
+                done.set(true);
+                terminate(rejected.get());
+            }
+        } catch (SQLException | RuntimeException e) {
+            done.set(true);
+            terminate(e);
+        }
+    }
+
+    /**
+     * Closes the cursor and signals the error if there is one, a cancelled subscription is closed silently.
+     */
+    private void terminate(final Exception cause) {
+        try {
+            cursor.close();
+        } catch (SQLException e) {
+            if (cause != null) {
+                cause.addSuppressed(e);
+            }
+        }
+        if (cause != null) {
+            subscriber.onError(cause);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.flow;
+
+import com.nmalygin.superb.jdbc.api.Cursor;
+import com.nmalygin.superb.jdbc.api.Query;
+import com.nmalygin.superb.jdbc.api.handlers.columns.Column;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+final class LazyCursor<T> implements Cursor<T> {
+
+    private final Query query;
+    private final Column<T> column;
+    private final List<Cursor<T>> opened;
+
+    LazyCursor(final Query query, final Column<T> column, final List<Cursor<T>> opened) {
+        this.query = query;
+        this.column = column;
+        this.opened = opened;
+    }
+
+    LazyCursor(final Query query, final Column<T> column) {
+        this(query, column, new ArrayList<>(1));
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        if (opened.isEmpty()) {
+            opened.add(query.cursor(column));
+        }
+
+        return opened.get(0).next();
+    }
+
+    @Override
+    public T value() throws SQLException {
+        return opened.get(0).value();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CloseResource")
+    public void close() throws SQLException {
+        for (final Cursor<T> cursor : opened) {
+            cursor.close();
+        }
+        opened.clear();
+    }
+}
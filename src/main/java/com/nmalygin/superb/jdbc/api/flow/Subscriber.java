@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.flow;
+
+/**
+ * A receiver of rows. The contract is the same as the contract of {@code java.util.concurrent.Flow.Subscriber}.
+ *
+ * @param <T> Type of the received rows
+ * @author Nikolai Malygin
+ */
+public interface Subscriber<T> {
+    /**
+     * Invoked prior to any other method for the subscription.
+     *
+     * @param subscription the subscription
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Invoked with the next row of the subscription.
+     *
+     * @param item the row
+     */
+    void onNext(T item);
+
+    /**
+     * Invoked upon an unrecoverable error, no other method is invoked afterwards.
+     *
+     * @param throwable the error
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Invoked when all rows have been emitted, no other method is invoked afterwards.
+     */
+    void onComplete();
+}
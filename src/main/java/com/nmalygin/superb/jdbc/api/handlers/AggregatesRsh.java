@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers;
+
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+import com.nmalygin.superb.jdbc.api.handlers.aggregates.Aggregate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * AggregatesRsh folds every row into the aggregates in one pass without keeping the rows, the results are read
+ * from the aggregates after the query
+ *
+ * @author Nikolai Malygin
+ */
+public final class AggregatesRsh implements ResultSetHandler<Long> {
+
+    private final Aggregate[] aggregates;
+
+    /**
+     *
+     * @param aggregates aggregates computed over the result set
+     */
+    public AggregatesRsh(final Aggregate... aggregates) {
+        this.aggregates = aggregates.clone();
+    }
+
+    /**
+     *
+     * @param resultSet ResultSet
+     * @return number of rows read
+     * @throws SQLException SQLException
+     */
+    @Override
+    public Long handle(final ResultSet resultSet) throws SQLException {
+        for (final Aggregate aggregate : aggregates) {
+            aggregate.clear();
+            aggregate.bindTo(resultSet);
+        }
+        long rows = 0;
+        while (resultSet.next()) {
+            for (final Aggregate aggregate : aggregates) {
+                aggregate.add(resultSet);
+            }
+            rows++;
+        }
+
+        return rows;
+    }
+}
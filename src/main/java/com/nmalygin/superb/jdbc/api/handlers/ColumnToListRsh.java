@@ -40,13 +40,24 @@ import java.util.List;
 public final class ColumnToListRsh<T> implements ResultSetHandler<List<T>> {
 
     private final Column<T> column;
+    private final int capacity;
 
     /**
      *
      * @param column typed column
+     * @param capacity expected number of rows, the list grows if the result set is larger
      */
-    public ColumnToListRsh(final Column<T> column) {
+    public ColumnToListRsh(final Column<T> column, final int capacity) {
         this.column = column;
+        this.capacity = capacity;
+    }
+
+    /**
+     *
+     * @param column typed column
+     */
+    public ColumnToListRsh(final Column<T> column) {
+        this(column, 10);
     }
 
     /**
@@ -57,9 +68,10 @@ public final class ColumnToListRsh<T> implements ResultSetHandler<List<T>> {
      */
     @Override
     public List<T> handle(final ResultSet resultSet) throws SQLException {
-        final List<T> list = new ArrayList<>();
+        final Column<T> bound = column.boundTo(resultSet);
+        final List<T> list = new ArrayList<>(capacity);
         while (resultSet.next()) {
-            list.add(column.cellValue(resultSet));
+            list.add(bound.cellValue(resultSet));
         }
 
         return list;
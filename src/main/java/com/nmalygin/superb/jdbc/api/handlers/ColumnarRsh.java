@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers;
+
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+import com.nmalygin.superb.jdbc.api.handlers.vectors.ChunkHandler;
+import com.nmalygin.superb.jdbc.api.handlers.vectors.Vector;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ColumnarRsh reads the result set column by column into vectors (one primitive array per numeric column,
+ * dictionary codes for string columns). With a chunk size, the vectors are handed to the chunk handler and cleared
+ * every chunkSize rows, so the memory footprint does not depend on the size of the result set.
+ *
+ * @author Nikolai Malygin
+ */
+public final class ColumnarRsh implements ResultSetHandler<Long> {
+
+    private final int chunkSize;
+    private final ChunkHandler chunkHandler;
+    private final Vector[] vectors;
+
+    /**
+     *
+     * @param chunkSize maximum number of rows in a chunk
+     * @param chunkHandler handler of every chunk, including the last incomplete one
+     * @param vectors vectors the columns are read into
+     */
+    public ColumnarRsh(final int chunkSize, final ChunkHandler chunkHandler, final Vector... vectors) {
+        this.chunkSize = chunkSize;
+        this.chunkHandler = chunkHandler;
+        this.vectors = vectors.clone();
+    }
+
+    /**
+     *
+     * @param vectors vectors all rows of the result set are read into
+     */
+    public ColumnarRsh(final Vector... vectors) {
+        this(Integer.MAX_VALUE, size -> { }, vectors);
+    }
+
+    /**
+     *
+     * @param resultSet ResultSet
+     * @return number of rows read
+     * @throws SQLException SQLException
+     */
+    @Override
+    public Long handle(final ResultSet resultSet) throws SQLException {
+        for (final Vector vector : vectors) {
+            vector.clear();
+            vector.bindTo(resultSet);
+        }
+        long rows = 0;
+        int chunk = 0;
+        while (resultSet.next()) {
+            if (chunk == chunkSize) {
+                chunkHandler.handle(chunk);
+                for (final Vector vector : vectors) {
+                    vector.clear();
+                }
+                chunk = 0;
+            }
+            for (final Vector vector : vectors) {
+                vector.add(resultSet);
+            }
+            chunk++;
+            rows++;
+        }
+        if (chunk > 0) {
+            chunkHandler.handle(chunk);
+        }
+
+        return rows;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers;
+
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+import com.nmalygin.superb.jdbc.api.Setting;
+import com.nmalygin.superb.jdbc.api.handlers.columns.Column;
+import com.nmalygin.superb.jdbc.api.settings.MaxRows;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * FirstRowRsh reads the column of the first row only, the statement is limited to one row
+ *
+ * @author Nikolai Malygin
+ */
+public final class FirstRowRsh<T> implements ResultSetHandler<T> {
+
+    private final Column<T> column;
+    private final Setting limit;
+    private final T absent;
+
+    /**
+     *
+     * @param column typed column
+     * @param absent value returned if the result set is empty
+     */
+    public FirstRowRsh(final Column<T> column, final T absent) {
+        this.column = column;
+        this.limit = new MaxRows(1);
+        this.absent = absent;
+    }
+
+    /**
+     *
+     * @param column typed column
+     */
+    public FirstRowRsh(final Column<T> column) {
+        this(column, null);
+    }
+
+    /**
+     *
+     * @param resultSet ResultSet
+     * @return value of the column in the first row, or the absent value if there are no rows
+     * @throws SQLException SQLException
+     */
+    @Override
+    public T handle(final ResultSet resultSet) throws SQLException {
+        return resultSet.next() ? column.cellValue(resultSet) : absent;
+    }
+
+    @Override
+    public Setting setting() {
+        return limit;
+    }
+}
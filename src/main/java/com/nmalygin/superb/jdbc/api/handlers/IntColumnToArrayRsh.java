@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers;
+
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+import com.nmalygin.superb.jdbc.api.handlers.columns.IntColumn;
+import com.nmalygin.superb.jdbc.api.handlers.vectors.IntVector;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * IntColumnToArrayRsh collects the values of the column into a growable int[] without boxing
+ *
+ * @author Nikolai Malygin
+ */
+public final class IntColumnToArrayRsh implements ResultSetHandler<int[]> {
+
+    private final IntColumn column;
+    private final int capacity;
+
+    /**
+     *
+     * @param column int column
+     * @param capacity expected number of rows, the buffer grows if the result set is larger
+     */
+    public IntColumnToArrayRsh(final IntColumn column, final int capacity) {
+        this.column = column;
+        this.capacity = capacity;
+    }
+
+    /**
+     *
+     * @param column int column
+     */
+    public IntColumnToArrayRsh(final IntColumn column) {
+        this(column, 16);
+    }
+
+    /**
+     *
+     * @param resultSet ResultSet
+     * @return values of the column, the length of the array is the number of rows
+     * @throws SQLException SQLException
+     */
+    @Override
+    public int[] handle(final ResultSet resultSet) throws SQLException {
+        final IntVector vector = new IntVector(column, capacity);
+        vector.bindTo(resultSet);
+        while (resultSet.next()) {
+            vector.add(resultSet);
+        }
+
+        return vector.values();
+    }
+}
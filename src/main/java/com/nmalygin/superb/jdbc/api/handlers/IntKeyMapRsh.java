@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers;
+
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+import com.nmalygin.superb.jdbc.api.handlers.columns.Column;
+import com.nmalygin.superb.jdbc.api.handlers.columns.IntColumn;
+import com.nmalygin.superb.jdbc.api.handlers.maps.IntKeyMap;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * IntKeyMapRsh maps the key column to the value column in a {@link IntKeyMap} without boxing the keys,
+ * a later row overrides an earlier row with the same key
+ *
+ * @author Nikolai Malygin
+ */
+public final class IntKeyMapRsh<V> implements ResultSetHandler<IntKeyMap<V>> {
+
+    private final IntColumn key;
+    private final Column<V> value;
+    private final int expectedSize;
+
+    /**
+     *
+     * @param key int column of the keys
+     * @param value typed column of the values
+     * @param expectedSize expected number of rows, the map grows if the result set is larger
+     */
+    public IntKeyMapRsh(final IntColumn key, final Column<V> value, final int expectedSize) {
+        this.key = key;
+        this.value = value;
+        this.expectedSize = expectedSize;
+    }
+
+    /**
+     *
+     * @param key int column of the keys
+     * @param value typed column of the values
+     */
+    public IntKeyMapRsh(final IntColumn key, final Column<V> value) {
+        this(key, value, 16);
+    }
+
+    /**
+     *
+     * @param resultSet ResultSet
+     * @return map of the keys to the values
+     * @throws SQLException SQLException, also if a key is NULL
+     */
+    @Override
+    public IntKeyMap<V> handle(final ResultSet resultSet) throws SQLException {
+        final IntColumn boundKey = key.boundTo(resultSet);
+        final Column<V> boundValue = value.boundTo(resultSet);
+        final IntKeyMap<V> map = new IntKeyMap<>(expectedSize);
+        while (resultSet.next()) {
+            final int cell = boundKey.intCellValue(resultSet);
+            if (resultSet.wasNull()) {
+                throw new SQLException("NULL key in row " + resultSet.getRow());
+            }
+            map.put(cell, boundValue.cellValue(resultSet));
+        }
+
+        return map;
+    }
+}
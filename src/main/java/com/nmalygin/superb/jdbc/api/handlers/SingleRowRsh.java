@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers;
+
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+import com.nmalygin.superb.jdbc.api.Setting;
+import com.nmalygin.superb.jdbc.api.handlers.columns.Column;
+import com.nmalygin.superb.jdbc.api.settings.MaxRows;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * SingleRowRsh reads the column of the only row of the result set. The statement is limited to two rows,
+ * which is enough to tell that the row is not unique.
+ *
+ * @author Nikolai Malygin
+ */
+public final class SingleRowRsh<T> implements ResultSetHandler<T> {
+
+    private final Column<T> column;
+    private final Setting limit;
+
+    /**
+     *
+     * @param column typed column
+     */
+    public SingleRowRsh(final Column<T> column) {
+        this.column = column;
+        this.limit = new MaxRows(2);
+    }
+
+    /**
+     *
+     * @param resultSet ResultSet
+     * @return value of the column in the only row
+     * @throws SQLException If the result set has no rows or more than one row
+     */
+    @Override
+    public T handle(final ResultSet resultSet) throws SQLException {
+        if (!resultSet.next()) {
+            throw new SQLException("Expected exactly one row, but the result set is empty");
+        }
+        final T value = column.cellValue(resultSet);
+        if (resultSet.next()) {
+            throw new SQLException("Expected exactly one row, but the result set has more");
+        }
+
+        return value;
+    }
+
+    @Override
+    public Setting setting() {
+        return limit;
+    }
+}
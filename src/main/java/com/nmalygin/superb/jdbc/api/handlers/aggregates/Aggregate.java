@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.aggregates;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * An accumulator that folds the cells of a column as the rows are read, in constant memory
+ * ({@link DistinctCount} excepted, it keeps the distinct cells).
+ * SQL NULL cells are skipped.
+ *
+ * @author Nikolai Malygin
+ */
+public interface Aggregate {
+
+    /**
+     * Resolves the column of the aggregate in the result set before the rows are read.
+     *
+     * @param resultSet Result set the column is read from
+     * @throws SQLException If the column is not found in the resultSet
+     */
+    void bindTo(ResultSet resultSet) throws SQLException;
+
+    /**
+     * Folds the cell of the current row into the aggregate.
+     *
+     * @param resultSet Result set on the specific row
+     * @throws SQLException If cell value do not get from the resultSet
+     */
+    void add(ResultSet resultSet) throws SQLException;
+
+    /**
+     * Resets the aggregate to its initial state.
+     */
+    void clear();
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.aggregates;
+
+import com.nmalygin.superb.jdbc.api.handlers.columns.Column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Count of the non-NULL cells of the column (COUNT(column))
+ *
+ * @author Nikolai Malygin
+ */
+public final class Count implements Aggregate {
+
+    private Column<?> column;
+    private long cells;
+
+    /**
+     *
+     * @param column column
+     */
+    public Count(final Column<?> column) {
+        this.column = column;
+        this.cells = 0;
+    }
+
+    @Override
+    public void bindTo(final ResultSet resultSet) throws SQLException {
+        column = column.boundTo(resultSet);
+    }
+
+    @Override
+    public void add(final ResultSet resultSet) throws SQLException {
+        column.cellValue(resultSet);
+        if (!resultSet.wasNull()) {
+            cells++;
+        }
+    }
+
+    @Override
+    public void clear() {
+        cells = 0;
+    }
+
+    /**
+     *
+     * @return Number of non-NULL cells
+     */
+    public long value() {
+        return cells;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.aggregates;
+
+import com.nmalygin.superb.jdbc.api.handlers.columns.Column;
+import com.nmalygin.superb.jdbc.api.handlers.columns.IntColumn;
+import com.nmalygin.superb.jdbc.api.handlers.columns.LongColumn;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Number of distinct non-NULL cells of the column (COUNT(DISTINCT column)), SQL NULL cells are not counted.
+ * The cells of a {@link LongColumn} or an {@link IntColumn} are kept in a hash set of primitive longs without boxing,
+ * the cells of other columns in a {@link HashSet} compared by {@link Object#equals(Object)}.
+ * Unlike the other aggregates, the memory grows with the number of distinct cells.
+ *
+ * @author Nikolai Malygin
+ */
+public final class DistinctCount implements Aggregate {
+
+    private Column<?> column;
+    private final LongSet numbers;
+    private final Set<Object> values;
+
+    /**
+     *
+     * @param column column
+     * @param expectedSize expected number of distinct cells, the set grows if there are more
+     */
+    public DistinctCount(final Column<?> column, final int expectedSize) {
+        this.column = column;
+        this.numbers = new LongSet(expectedSize);
+        this.values = new HashSet<>();
+    }
+
+    /**
+     *
+     * @param column column
+     */
+    public DistinctCount(final Column<?> column) {
+        this(column, 16);
+    }
+
+    @Override
+    public void bindTo(final ResultSet resultSet) throws SQLException {
+        column = column.boundTo(resultSet);
+    }
+
+    @Override
+    public void add(final ResultSet resultSet) throws SQLException {
+        if (column instanceof LongColumn) {
+            final long value = ((LongColumn) column).longCellValue(resultSet);
+            if (!resultSet.wasNull()) {
+                numbers.add(value);
+            }
+        } else if (column instanceof IntColumn) {
+            final int value = ((IntColumn) column).intCellValue(resultSet);
+            if (!resultSet.wasNull()) {
+                numbers.add(value);
+            }
+        } else {
+            final Object value = column.cellValue(resultSet);
+            if (!resultSet.wasNull()) {
+                values.add(value);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        numbers.clear();
+        values.clear();
+    }
+
+    /**
+     *
+     * @return Number of distinct non-NULL cells
+     */
+    public long value() {
+        return (long) numbers.size() + values.size();
+    }
+}
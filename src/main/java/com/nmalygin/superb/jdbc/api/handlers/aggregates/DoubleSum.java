@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.aggregates;
+
+import com.nmalygin.superb.jdbc.api.handlers.columns.DoubleColumn;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Sum of the non-NULL cells of the double column with Kahan compensation of the rounding error
+ *
+ * @author Nikolai Malygin
+ */
+public final class DoubleSum implements Aggregate {
+
+    private DoubleColumn column;
+    private double sum;
+    private double compensation;
+
+    /**
+     *
+     * @param column double column
+     */
+    public DoubleSum(final DoubleColumn column) {
+        this.column = column;
+        this.sum = 0;
+        this.compensation = 0;
+    }
+
+    @Override
+    public void bindTo(final ResultSet resultSet) throws SQLException {
+        column = column.boundTo(resultSet);
+    }
+
+    @Override
+    public void add(final ResultSet resultSet) throws SQLException {
+        final double value = column.doubleCellValue(resultSet);
+        if (!resultSet.wasNull()) {
+            final double term = value - compensation;
+            final double next = sum + term;
+            compensation = next - sum - term;
+            sum = next;
+        }
+    }
+
+    @Override
+    public void clear() {
+        sum = 0;
+        compensation = 0;
+    }
+
+    /**
+     *
+     * @return Sum of the non-NULL cells, 0 if there are none
+     */
+    public double value() {
+        return sum;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.aggregates;
+
+import com.nmalygin.superb.jdbc.api.handlers.columns.DoubleColumn;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Counts of the non-NULL cells of the double column in buckets of equal width. Cells below the lower bound
+ * are counted in the first bucket and cells from the upper bound on in the last one.
+ *
+ * @author Nikolai Malygin
+ */
+public final class Histogram implements Aggregate {
+
+    private DoubleColumn column;
+    private final double lower;
+    private final double width;
+    private final long[] counts;
+
+    /**
+     *
+     * @param column double column
+     * @param lower inclusive lower bound of the first bucket
+     * @param upper exclusive upper bound of the last bucket
+     * @param buckets number of buckets
+     */
+    public Histogram(final DoubleColumn column, final double lower, final double upper, final int buckets) {
+        if (upper <= lower || buckets <= 0) {
+            throw new IllegalArgumentException("Empty histogram: [" + lower + ", " + upper + ") by " + buckets);
+        }
+        this.column = column;
+        this.lower = lower;
+        this.width = (upper - lower) / buckets;
+        this.counts = new long[buckets];
+    }
+
+    @Override
+    public void bindTo(final ResultSet resultSet) throws SQLException {
+        column = column.boundTo(resultSet);
+    }
+
+    @Override
+    public void add(final ResultSet resultSet) throws SQLException {
+        final double value = column.doubleCellValue(resultSet);
+        if (!resultSet.wasNull()) {
+            final double bucket = Math.floor((value - lower) / width);
+            counts[(int) Math.max(0, Math.min(counts.length - 1, bucket))]++;
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    /**
+     *
+     * @return Copy of the counts of the buckets
+     */
+    public long[] values() {
+        return counts.clone();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.aggregates;
+
+import java.util.Arrays;
+
+/**
+ * A hash set of primitive long values (open addressing with linear probing), the values are not boxed.
+ */
+final class LongSet {
+
+    private static final double LOAD_FACTOR = 0.75;
+
+    private long[] values;
+    private int shift;
+    private int count;
+    private boolean zero;
+
+    LongSet(final int expectedSize) {
+        this.values = new long[Math.max(2, Integer.highestOneBit((int) Math.ceil(expectedSize / LOAD_FACTOR) - 1) << 1)];
+        this.shift = Long.numberOfLeadingZeros(values.length - 1L);
+        this.count = 0;
+        this.zero = false;
+    }
+
+    void add(final long value) {
+        if (value == 0) {
+            if (!zero) {
+                zero = true;
+                count++;
+            }
+        } else {
+            final int slot = slot(values, value);
+            if (values[slot] == 0) {
+                values[slot] = value;
+                count++;
+                if (count > values.length * LOAD_FACTOR) {
+                    grow();
+                }
+            }
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    void clear() {
+        Arrays.fill(values, 0);
+        count = 0;
+        zero = false;
+    }
+
+    private int slot(final long[] table, final long value) {
+        final int mask = table.length - 1;
+        int slot = (int) (value * 0x9E3779B97F4A7C15L >>> shift);
+        while (table[slot] != 0 && table[slot] != value) {
+            slot = slot + 1 & mask;
+        }
+
+        return slot;
+    }
+
+    private void grow() {
+        final long[] old = values;
+        values = new long[old.length * 2];
+        shift--;
+        for (final long value : old) {
+            if (value != 0) {
+                values[slot(values, value)] = value;
+            }
+        }
+    }
+}
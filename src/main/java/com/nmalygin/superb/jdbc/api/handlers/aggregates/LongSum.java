@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.aggregates;
+
+import com.nmalygin.superb.jdbc.api.handlers.columns.LongColumn;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Sum of the non-NULL cells of the long column, overflow throws {@link ArithmeticException}
+ *
+ * @author Nikolai Malygin
+ */
+public final class LongSum implements Aggregate {
+
+    private LongColumn column;
+    private long sum;
+
+    /**
+     *
+     * @param column long column
+     */
+    public LongSum(final LongColumn column) {
+        this.column = column;
+        this.sum = 0;
+    }
+
+    @Override
+    public void bindTo(final ResultSet resultSet) throws SQLException {
+        column = column.boundTo(resultSet);
+    }
+
+    @Override
+    public void add(final ResultSet resultSet) throws SQLException {
+        final long value = column.longCellValue(resultSet);
+        if (!resultSet.wasNull()) {
+            sum = Math.addExact(sum, value);
+        }
+    }
+
+    @Override
+    public void clear() {
+        sum = 0;
+    }
+
+    /**
+     *
+     * @return Sum of the non-NULL cells, 0 if there are none
+     */
+    public long value() {
+        return sum;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * BinaryEncoder encodes the fields of one row into a reusable growable buffer. A string that is not valid UTF-16 (e.g.
+ * with an unpaired surrogate) is encoded with '?' in place of the invalid characters.
+ *
+ * @author Nikolai Malygin
+ */
+final class BinaryEncoder implements RowEncoder {
+
+    /**
+     * The flag preceding an int, long or double value.
+     */
+    static final byte PRESENT = 0;
+
+    /**
+     * The flag standing for an SQL NULL int, long or double value, no value follows it.
+     */
+    static final byte ABSENT = 1;
+
+    private ByteBuffer buffer;
+    private final CharsetEncoder encoder;
+
+    BinaryEncoder(final ByteBuffer buffer, final CharsetEncoder encoder) {
+        this.buffer = buffer;
+        this.encoder = encoder;
+    }
+
+    BinaryEncoder() {
+        this(
+                ByteBuffer.allocate(256),
+                StandardCharsets.UTF_8.newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE)
+        );
+    }
+
+    @Override
+    public void putInt(final int value) {
+        ensure(1 + Integer.BYTES);
+        buffer.put(PRESENT);
+        buffer.putInt(value);
+    }
+
+    @Override
+    public void putLong(final long value) {
+        ensure(1 + Long.BYTES);
+        buffer.put(PRESENT);
+        buffer.putLong(value);
+    }
+
+    @Override
+    public void putDouble(final double value) {
+        ensure(1 + Double.BYTES);
+        buffer.put(PRESENT);
+        buffer.putDouble(value);
+    }
+
+    @Override
+    public void putNull() {
+        ensure(1);
+        buffer.put(ABSENT);
+    }
+
+    @Override
+    public void putString(final String value) {
+        if (value == null) {
+            ensure(Integer.BYTES);
+            buffer.putInt(-1);
+        } else {
+            ensure(Integer.BYTES + value.length() * 3);
+            final int start = buffer.position();
+            buffer.position(start + Integer.BYTES);
+            encoder.reset();
+            encoder.encode(CharBuffer.wrap(value), buffer, true);
+            encoder.flush(buffer);
+            buffer.putInt(start, buffer.position() - start - Integer.BYTES);
+        }
+    }
+
+    void clear() {
+        buffer.clear();
+    }
+
+    int length() {
+        return buffer.position();
+    }
+
+    void copyTo(final ByteBuffer target) {
+        target.put(buffer.array(), buffer.arrayOffset(), buffer.position());
+    }
+
+    void writeTo(final WritableByteChannel channel) throws IOException {
+        final ByteBuffer bytes = ByteBuffer.wrap(buffer.array(), buffer.arrayOffset(), buffer.position());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private void ensure(final int bytes) {
+        if (buffer.remaining() < bytes) {
+            final ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+    }
+}
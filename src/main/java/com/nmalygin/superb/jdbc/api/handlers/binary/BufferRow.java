@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+final class BufferRow implements BinaryRow {
+
+    private final ByteBuffer buffer;
+    private boolean absent;
+
+    BufferRow(final ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int intValue() {
+        absent = buffer.get() == BinaryEncoder.ABSENT;
+        return absent ? 0 : buffer.getInt();
+    }
+
+    @Override
+    public long longValue() {
+        absent = buffer.get() == BinaryEncoder.ABSENT;
+        return absent ? 0 : buffer.getLong();
+    }
+
+    @Override
+    public double doubleValue() {
+        absent = buffer.get() == BinaryEncoder.ABSENT;
+        return absent ? 0 : buffer.getDouble();
+    }
+
+    @Override
+    public boolean wasNull() {
+        return absent;
+    }
+
+    @Override
+    public String stringValue() {
+        final int length = buffer.getInt();
+        String value = null;
+        if (length >= 0) {
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        absent = value == null;
+
+        return value;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ChannelRsh writes the rows of the result set to the channel in the compact binary row format
+ * ({@code [int length][fields]} per row) through a reusable direct buffer of bufferSize bytes. An int, long or double
+ * field is a flag byte, 0 followed by the value or 1 for SQL NULL; a string field is an int length, -1 for SQL NULL,
+ * followed by UTF-8 bytes.
+ * A row larger than the buffer is written directly. The channel is not closed.
+ *
+ * @author Nikolai Malygin
+ */
+public final class ChannelRsh implements ResultSetHandler<Long> {
+
+    private final WritableByteChannel channel;
+    private final int bufferSize;
+    private final Field[] fields;
+
+    /**
+     *
+     * @param channel target channel
+     * @param bufferSize size of the direct buffer in bytes, at least 4
+     * @param fields fields of a row
+     */
+    public ChannelRsh(final WritableByteChannel channel, final int bufferSize, final Field... fields) {
+        if (bufferSize < Integer.BYTES) {
+            throw new IllegalArgumentException("Buffer size must be at least 4 bytes: " + bufferSize);
+        }
+        this.channel = channel;
+        this.bufferSize = bufferSize;
+        this.fields = fields.clone();
+    }
+
+    /**
+     *
+     * @param channel target channel
+     * @param fields fields of a row
+     */
+    public ChannelRsh(final WritableByteChannel channel, final Field... fields) {
+        this(channel, 1 << 16, fields);
+    }
+
+    /**
+     *
+     * @param resultSet ResultSet
+     * @return number of rows written
+     * @throws SQLException If the resultSet or the channel fails
+     */
+    @Override
+    public Long handle(final ResultSet resultSet) throws SQLException {
+        final Fields bound = new Fields(fields).boundTo(resultSet);
+        final BinaryEncoder encoder = new BinaryEncoder();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        long rows = 0;
+        try {
+            while (resultSet.next()) {
+                bound.write(resultSet, encoder);
+                final int length = Integer.BYTES + encoder.length();
+                if (buffer.remaining() < length) {
+                    drain(buffer);
+                }
+                buffer.putInt(encoder.length());
+                if (buffer.remaining() < encoder.length()) {
+                    drain(buffer);
+                    encoder.writeTo(channel);
+                } else {
+                    encoder.copyTo(buffer);
+                }
+                rows++;
+            }
+            drain(buffer);
+        } catch (IOException e) {
+            throw new SQLException("The rows can not be written to the channel", e);
+        }
+
+        return rows;
+    }
+
+    private void drain(final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
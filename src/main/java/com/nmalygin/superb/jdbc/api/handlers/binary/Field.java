@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A field of the compact binary row format: encodes the cell of a column of the current row.
+ * Fields of a row are decoded in the same order through {@link BinaryRow}.
+ *
+ * @author Nikolai Malygin
+ */
+public interface Field {
+
+    /**
+     * Resolves the column of the field in the result set once.
+     *
+     * @param resultSet Result set the column is read from
+     * @return The field bound to the resultSet
+     * @throws SQLException If the column is not found in the resultSet
+     */
+    Field boundTo(ResultSet resultSet) throws SQLException;
+
+    /**
+     *
+     * @param resultSet Result set on the specific row
+     * @param encoder Encoder of the row
+     * @throws SQLException If cell value do not get from the resultSet
+     */
+    void write(ResultSet resultSet, RowEncoder encoder) throws SQLException;
+}
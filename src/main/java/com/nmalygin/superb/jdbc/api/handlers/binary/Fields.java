@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+final class Fields {
+
+    private final Field[] all;
+
+    @SuppressWarnings({"PMD.UseVarargs", "PMD.ArrayIsStoredDirectly"})
+    Fields(final Field[] all) {
+        this.all = all;
+    }
+
+    Fields boundTo(final ResultSet resultSet) throws SQLException {
+        final Field[] bound = new Field[all.length];
+        for (int index = 0; index < all.length; index++) {
+            bound[index] = all[index].boundTo(resultSet);
+        }
+
+        return new Fields(bound);
+    }
+
+    void write(final ResultSet resultSet, final BinaryEncoder encoder) throws SQLException {
+        encoder.clear();
+        for (final Field field : all) {
+            field.write(resultSet, encoder);
+        }
+    }
+}
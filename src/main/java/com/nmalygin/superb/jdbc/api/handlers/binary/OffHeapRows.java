@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Rows of a result set encoded in the compact binary row format and kept in direct (off-heap) buffers.
+ * Only the offsets of the rows (8 bytes per row) are kept on the heap. The buffers count against the limit of direct
+ * memory of the JVM (-XX:MaxDirectMemorySize), and their memory is freed only when the garbage collector reclaims them.
+ * Closing drops the references to the buffers, so that their memory can be reclaimed while the rows object is still
+ * reachable; the rows can not be read after that.
+ *
+ * @author Nikolai Malygin
+ */
+public final class OffHeapRows implements Iterable<BinaryRow>, AutoCloseable {
+
+    private final List<ByteBuffer> segments;
+    private final long[] offsets;
+    private final int count;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    OffHeapRows(final List<ByteBuffer> segments, final long[] offsets, final int count) {
+        this.segments = segments;
+        this.offsets = offsets;
+        this.count = count;
+    }
+
+    /**
+     *
+     * @return Number of rows
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Random access to a row.
+     *
+     * @param index Index of the row
+     * @return The row positioned at its first field
+     */
+    public BinaryRow row(final int index) {
+        if (index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + count);
+        }
+        final ByteBuffer view = open().get((int) (offsets[index] >>> 32)).duplicate();
+        view.position((int) offsets[index] + Integer.BYTES);
+
+        return new BufferRow(view);
+    }
+
+    /**
+     * Sequential access to the rows. The iterator returns the same object for every row,
+     * a row is valid until the next call of {@link Iterator#next()}.
+     *
+     * @return Iterator over the rows
+     */
+    @Override
+    public Iterator<BinaryRow> iterator() {
+        return new SegmentsIterator(open().iterator());
+    }
+
+    /**
+     * Drops the references to the direct buffers of the rows.
+     */
+    @Override
+    public void close() {
+        segments.clear();
+    }
+
+    private List<ByteBuffer> open() {
+        if (segments.isEmpty()) {
+            throw new IllegalStateException("The rows are closed");
+        }
+
+        return segments;
+    }
+}
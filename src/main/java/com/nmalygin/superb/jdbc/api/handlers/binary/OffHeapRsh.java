@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * OffHeapRsh encodes the rows of the result set in the compact binary row format into direct (off-heap)
+ * buffers of segmentSize bytes. A row larger than a segment gets a segment of its own. The buffers are allocated outside
+ * the heap limit but within the direct memory limit of the JVM; close the rows to let them be reclaimed early.
+ *
+ * @author Nikolai Malygin
+ */
+public final class OffHeapRsh implements ResultSetHandler<OffHeapRows> {
+
+    private final int segmentSize;
+    private final Field[] fields;
+
+    /**
+     *
+     * @param segmentSize size of a direct buffer in bytes
+     * @param fields fields of a row
+     */
+    public OffHeapRsh(final int segmentSize, final Field... fields) {
+        this.segmentSize = segmentSize;
+        this.fields = fields.clone();
+    }
+
+    /**
+     *
+     * @param fields fields of a row
+     */
+    public OffHeapRsh(final Field... fields) {
+        this(1 << 20, fields);
+    }
+
+    /**
+     *
+     * @param resultSet ResultSet
+     * @return rows of the resultSet
+     * @throws SQLException SQLException
+     */
+    @Override
+    public OffHeapRows handle(final ResultSet resultSet) throws SQLException {
+        final Fields bound = new Fields(fields).boundTo(resultSet);
+        final BinaryEncoder encoder = new BinaryEncoder();
+        final List<ByteBuffer> segments = new ArrayList<>();
+        ByteBuffer segment = ByteBuffer.allocateDirect(segmentSize);
+        long[] offsets = new long[16];
+        int count = 0;
+        while (resultSet.next()) {
+            bound.write(resultSet, encoder);
+            final int length = Integer.BYTES + encoder.length();
+            if (segment.remaining() < length) {
+                segment.flip();
+                segments.add(segment);
+                segment = ByteBuffer.allocateDirect(Math.max(segmentSize, length));
+            }
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count] = (long) segments.size() << 32 | segment.position();
+            count++;
+            segment.putInt(encoder.length());
+            encoder.copyTo(segment);
+        }
+        segment.flip();
+        segments.add(segment);
+
+        return new OffHeapRows(segments, offsets, count);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+final class SegmentsIterator implements Iterator<BinaryRow> {
+
+    private final Iterator<ByteBuffer> segments;
+    private ByteBuffer view;
+    private BinaryRow row;
+    private boolean switched;
+    private int start;
+
+    SegmentsIterator(final Iterator<ByteBuffer> segments, final ByteBuffer view) {
+        this.segments = segments;
+        this.view = view;
+        this.row = new BufferRow(view);
+        this.switched = false;
+        this.start = 0;
+    }
+
+    SegmentsIterator(final Iterator<ByteBuffer> segments) {
+        this(segments, ByteBuffer.allocate(0));
+    }
+
+    @Override
+    @SuppressWarnings("PMD.UnusedAssignment")
+    public boolean hasNext() {
+        while (start >= view.limit() && segments.hasNext()) {
+            view = segments.next().duplicate();
+            switched = true;
+            start = 0;
+        }
+
+        return start < view.limit();
+    }
+
+    @Override
+    public BinaryRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows.");
+        }
+        if (switched) {
+            row = new BufferRow(view);
+            switched = false;
+        }
+        view.position(start);
+        final int length = view.getInt();
+        start = view.position() + length;
+
+        return row;
+    }
+}
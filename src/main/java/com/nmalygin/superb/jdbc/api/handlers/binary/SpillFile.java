@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+final class SpillFile {
+
+    private static final long MAX_REGION = 1L << 30;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final List<long[]> regions;
+    private long start;
+    private long position;
+
+    SpillFile(final Path path, final FileChannel channel, final List<long[]> regions) {
+        this.path = path;
+        this.channel = channel;
+        this.regions = regions;
+        this.start = 0;
+        this.position = 0;
+    }
+
+    SpillFile(final Path path) throws IOException {
+        this(path, FileChannel.open(path, StandardOpenOption.WRITE), new ArrayList<>());
+    }
+
+    void write(final ByteBuffer segment) throws IOException {
+        final int length = segment.remaining();
+        if (position + length - start > MAX_REGION) {
+            regions.add(new long[]{start, position - start});
+            start = position;
+        }
+        while (segment.hasRemaining()) {
+            channel.write(segment);
+        }
+        position += length;
+    }
+
+    List<ByteBuffer> mapped() throws IOException {
+        channel.close();
+        regions.add(new long[]{start, position - start});
+        final List<ByteBuffer> mapped = new ArrayList<>(regions.size());
+        try (FileChannel read = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (final long[] region : regions) {
+                mapped.add(read.map(FileChannel.MapMode.READ_ONLY, region[0], region[1]));
+            }
+        }
+
+        return mapped;
+    }
+
+    void delete() throws IOException {
+        try (FileChannel ignored = channel) {
+            Files.deleteIfExists(path);
+        }
+    }
+}
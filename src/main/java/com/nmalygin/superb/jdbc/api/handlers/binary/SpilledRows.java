@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Rows of a result set encoded in the compact binary row format, kept partly in memory and partly in a temporary
+ * file mapped into memory. The rows can be iterated any number of times; closing deletes the temporary file.
+ *
+ * @author Nikolai Malygin
+ */
+public final class SpilledRows implements Iterable<BinaryRow>, Closeable {
+
+    private final List<ByteBuffer> segments;
+    private final long count;
+    private final Closeable file;
+
+    SpilledRows(final List<ByteBuffer> segments, final long count, final Closeable file) {
+        this.segments = segments;
+        this.count = count;
+        this.file = file;
+    }
+
+    /**
+     *
+     * @return Number of rows
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Sequential access to the rows. The iterator returns the same object for the rows of a segment,
+     * a row is valid until the next call of {@link Iterator#next()}.
+     *
+     * @return Iterator over the rows
+     */
+    @Override
+    public Iterator<BinaryRow> iterator() {
+        return new SegmentsIterator(segments.iterator());
+    }
+
+    /**
+     * Deletes the temporary file, if the rows were spilled to disk.
+     *
+     * @throws IOException if the file can not be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * SpillingRsh encodes the rows of the result set in the compact binary row format into heap segments while they fit
+ * into the memory budget; the rest of the rows are written to a temporary file that is read back through
+ * {@link java.nio.channels.FileChannel#map}. The result must be closed to delete the temporary file.
+ *
+ * @author Nikolai Malygin
+ */
+public final class SpillingRsh implements ResultSetHandler<SpilledRows> {
+
+    private final long memoryBudget;
+    private final int segmentSize;
+    private final Path directory;
+    private final Field[] fields;
+
+    /**
+     *
+     * @param memoryBudget maximum number of bytes of rows kept on the heap
+     * @param segmentSize size of a segment in bytes
+     * @param directory directory of the temporary file
+     * @param fields fields of a row
+     */
+    public SpillingRsh(final long memoryBudget, final int segmentSize, final Path directory, final Field... fields) {
+        this.memoryBudget = memoryBudget;
+        this.segmentSize = segmentSize;
+        this.directory = directory;
+        this.fields = fields.clone();
+    }
+
+    /**
+     *
+     * @param memoryBudget maximum number of bytes of rows kept on the heap
+     * @param fields fields of a row
+     */
+    public SpillingRsh(final long memoryBudget, final Field... fields) {
+        this(memoryBudget, 1 << 20, Paths.get(System.getProperty("java.io.tmpdir")), fields);
+    }
+
+    /**
+     *
+     * @param resultSet ResultSet
+     * @return rows of the resultSet
+     * @throws SQLException If the resultSet fails or the rows can not be spilled to the temporary file
+     */
+    @Override
+    public SpilledRows handle(final ResultSet resultSet) throws SQLException {
+        final Fields bound = new Fields(fields).boundTo(resultSet);
+        final BinaryEncoder encoder = new BinaryEncoder();
+        final SpillingSegments segments = new SpillingSegments(memoryBudget, segmentSize, directory);
+        try {
+            try {
+                ByteBuffer segment = ByteBuffer.allocate(segmentSize);
+                long count = 0;
+                while (resultSet.next()) {
+                    bound.write(resultSet, encoder);
+                    final int length = Integer.BYTES + encoder.length();
+                    if (segment.remaining() < length) {
+                        segment = segments.next(segment, length);
+                    }
+                    segment.putInt(encoder.length());
+                    encoder.copyTo(segment);
+                    count++;
+                }
+
+                return segments.rows(segment, count);
+            } catch (Throwable t) {
+                try {
+                    segments.delete();
+                } catch (IOException e) {
+                    t.addSuppressed(e);
+                }
+                throw t;
+            }
+        } catch (IOException e) {
+            throw new SQLException("The rows can not be spilled to " + directory, e);
+        }
+    }
+}
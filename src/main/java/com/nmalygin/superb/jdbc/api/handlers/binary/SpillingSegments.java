@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+final class SpillingSegments {
+
+    private final long memoryBudget;
+    private final int segmentSize;
+    private final Path directory;
+    private final List<ByteBuffer> memory;
+    private final List<SpillFile> files;
+    private long used;
+
+    SpillingSegments(final long memoryBudget,
+                     final int segmentSize,
+                     final Path directory,
+                     final List<ByteBuffer> memory,
+                     final List<SpillFile> files) {
+        this.memoryBudget = memoryBudget;
+        this.segmentSize = segmentSize;
+        this.directory = directory;
+        this.memory = memory;
+        this.files = files;
+        this.used = segmentSize;
+    }
+
+    SpillingSegments(final long memoryBudget, final int segmentSize, final Path directory) {
+        this(memoryBudget, segmentSize, directory, new ArrayList<>(), new ArrayList<>(1));
+    }
+
+    ByteBuffer next(final ByteBuffer full, final int length) throws IOException {
+        full.flip();
+        final int size = Math.max(segmentSize, length);
+        final ByteBuffer next;
+        if (files.isEmpty() && used + size <= memoryBudget) {
+            memory.add(full);
+            used += size;
+            next = ByteBuffer.allocate(size);
+        } else {
+            if (files.isEmpty()) {
+                files.add(new SpillFile(Files.createTempFile(directory, "superb-jdbc-", ".rows")));
+            }
+            files.get(0).write(full);
+            next = size > full.capacity() ? ByteBuffer.allocate(size) : full;
+            next.clear();
+        }
+
+        return next;
+    }
+
+    SpilledRows rows(final ByteBuffer last, final long count) throws IOException {
+        last.flip();
+        final SpilledRows rows;
+        if (files.isEmpty()) {
+            memory.add(last);
+            rows = new SpilledRows(memory, count, () -> { });
+        } else {
+            final SpillFile file = files.get(0);
+            file.write(last);
+            memory.addAll(file.mapped());
+            rows = new SpilledRows(memory, count, file::delete);
+        }
+
+        return rows;
+    }
+
+    void delete() throws IOException {
+        for (final SpillFile file : files) {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GzipChannel compresses the written bytes in the gzip format into the origin channel.
+ * Closing the channel finishes the gzip stream and closes the origin.
+ *
+ * @author Nikolai Malygin
+ */
+public final class GzipChannel implements WritableByteChannel {
+
+    private final WritableByteChannel origin;
+    private final GZIPOutputStream gzip;
+    private final byte[] chunk;
+
+    /**
+     *
+     * @param origin channel of the compressed bytes
+     * @param bufferSize size of the compression buffer in bytes
+     * @throws IOException If the gzip header is not written
+     */
+    public GzipChannel(final WritableByteChannel origin, final int bufferSize) throws IOException {
+        this.origin = origin;
+        this.gzip = new GZIPOutputStream(Channels.newOutputStream(origin), bufferSize);
+        this.chunk = new byte[bufferSize];
+    }
+
+    /**
+     *
+     * @param origin channel of the compressed bytes
+     * @throws IOException If the gzip header is not written
+     */
+    public GzipChannel(final WritableByteChannel origin) throws IOException {
+        this(origin, 1 << 16);
+    }
+
+    @Override
+    public int write(final ByteBuffer source) throws IOException {
+        final int length = source.remaining();
+        if (source.hasArray()) {
+            gzip.write(source.array(), source.arrayOffset() + source.position(), length);
+            source.position(source.limit());
+        } else {
+            while (source.hasRemaining()) {
+                final int part = Math.min(chunk.length, source.remaining());
+                source.get(chunk, 0, part);
+                gzip.write(chunk, 0, part);
+            }
+        }
+
+        return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return origin.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        gzip.close();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.columns;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * BlobColumn streams the content of a binary (BLOB) cell to the channel through a small buffer,
+ * the content is never held in memory as a whole. The value of the cell is the number of bytes written.
+ *
+ * @author Nikolai Malygin
+ */
+public final class BlobColumn implements Column<Long> {
+
+    private final String name;
+    private final int index;
+    private final WritableByteChannel target;
+
+    private BlobColumn(final String name, final int index, final WritableByteChannel target) {
+        this.name = name;
+        this.index = index;
+        this.target = target;
+    }
+
+    /**
+     *
+     * @param name column name
+     * @param target channel the content of every cell is written to, it is not closed
+     */
+    public BlobColumn(final String name, final WritableByteChannel target) {
+        this(name, 0, target);
+    }
+
+    @Override
+    public BlobColumn boundTo(final ResultSet resultSet) throws SQLException {
+        return new BlobColumn(name, resultSet.findColumn(name), target);
+    }
+
+    /**
+     *
+     * @param resultSet Result set on the specific row
+     * @return number of bytes written, null for SQL NULL
+     * @throws SQLException SQLException
+     * @throws UncheckedIOException If the content is not written
+     */
+    @Override
+    public Long cellValue(final ResultSet resultSet) throws SQLException {
+        Long written = null;
+        try (InputStream stream = index == 0 ? resultSet.getBinaryStream(name) : resultSet.getBinaryStream(index)) {
+            if (stream != null) {
+                written = copy(Channels.newChannel(stream));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return written;
+    }
+
+    private long copy(final ReadableByteChannel source) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long written = 0;
+        while (source.read(buffer) >= 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                written += target.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        return written;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.columns;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ClobColumn streams the content of a character (CLOB) cell to the channel in UTF-8 through a small buffer,
+ * the content is never held in memory as a whole. The value of the cell is the number of characters written.
+ *
+ * @author Nikolai Malygin
+ */
+public final class ClobColumn implements Column<Long> {
+
+    private final String name;
+    private final int index;
+    private final WritableByteChannel target;
+
+    private ClobColumn(final String name, final int index, final WritableByteChannel target) {
+        this.name = name;
+        this.index = index;
+        this.target = target;
+    }
+
+    /**
+     *
+     * @param name column name
+     * @param target channel the content of every cell is written to, it is not closed
+     */
+    public ClobColumn(final String name, final WritableByteChannel target) {
+        this(name, 0, target);
+    }
+
+    @Override
+    public ClobColumn boundTo(final ResultSet resultSet) throws SQLException {
+        return new ClobColumn(name, resultSet.findColumn(name), target);
+    }
+
+    /**
+     *
+     * @param resultSet Result set on the specific row
+     * @return number of characters written, null for SQL NULL
+     * @throws SQLException SQLException
+     * @throws UncheckedIOException If the content is not written
+     */
+    @Override
+    public Long cellValue(final ResultSet resultSet) throws SQLException {
+        Long written = null;
+        try (Reader reader = index == 0 ? resultSet.getCharacterStream(name) : resultSet.getCharacterStream(index)) {
+            if (reader != null) {
+                written = copy(reader);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return written;
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    private long copy(final Reader reader) throws IOException {
+        // flushed, not closed: closing the writer would close the target channel
+        final Writer writer = Channels.newWriter(target, StandardCharsets.UTF_8.newEncoder(), -1);
+        final char[] buffer = new char[4096];
+        long written = 0;
+        for (int read = reader.read(buffer); read >= 0; read = reader.read(buffer)) {
+            writer.write(buffer, 0, read);
+            written += read;
+        }
+        writer.flush();
+
+        return written;
+    }
+}
@@ -40,4 +40,16 @@ public interface Column<T> {
      * @throws SQLException If cell value do not get from the resultSet
      */
     T cellValue(ResultSet resultSet) throws SQLException;
+
+    /**
+     * Resolves the column in the result set once, so that the returned column can read the cells of every row
+     * without looking the column up again. Handlers call it before iterating the result set.
+     *
+     * @param resultSet Result set the column is read from
+     * @return The column bound to the result set
+     * @throws SQLException If the column is not found in the resultSet
+     */
+    default Column<T> boundTo(ResultSet resultSet) throws SQLException {
+        return this;
+    }
 }
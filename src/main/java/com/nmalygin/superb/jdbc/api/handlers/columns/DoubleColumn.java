@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.columns;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * DoubleColumn reads the cells of the column as primitive double values without boxing
+ * (SQL NULL is read as 0, use {@link ResultSet#wasNull()} to tell it apart). The boxed
+ * {@link #cellValue(ResultSet)} reads SQL NULL as null.
+ *
+ * @author Nikolai Malygin
+ */
+public final class DoubleColumn implements Column<Double> {
+
+    private final String name;
+    private final int index;
+
+    private DoubleColumn(final String name, final int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     *
+     * @param name column name
+     */
+    public DoubleColumn(final String name) {
+        this(name, 0);
+    }
+
+    /**
+     *
+     * @param resultSet Result set the column is read from
+     * @return The column that reads the cells by the index of the column in the resultSet
+     * @throws SQLException If the column is not found in the resultSet
+     */
+    @Override
+    public DoubleColumn boundTo(final ResultSet resultSet) throws SQLException {
+        return new DoubleColumn(name, resultSet.findColumn(name));
+    }
+
+    /**
+     *
+     * @param resultSet Result set on the specific row
+     * @return value of a cell in the row for the column
+     * @throws SQLException SQLException
+     */
+    public double doubleCellValue(final ResultSet resultSet) throws SQLException {
+        return index == 0 ? resultSet.getDouble(name) : resultSet.getDouble(index);
+    }
+
+    /**
+     *
+     * @param resultSet Result set on the specific row
+     * @return boxed value of a cell in the row for the column or null if the cell is SQL NULL
+     * @throws SQLException SQLException
+     */
+    @Override
+    public Double cellValue(final ResultSet resultSet) throws SQLException {
+        final double value = doubleCellValue(resultSet);
+        return resultSet.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.columns;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+final class PlannedRow implements Row {
+
+    private final ResultSet resultSet;
+    private final Map<Column<?>, Integer> positions;
+    private final Column<?>[] plan;
+
+    @SuppressWarnings({"PMD.UseVarargs", "PMD.ArrayIsStoredDirectly"})
+    PlannedRow(final ResultSet resultSet, final Map<Column<?>, Integer> positions, final Column<?>[] plan) {
+        this.resultSet = resultSet;
+        this.positions = positions;
+        this.plan = plan;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> V value(final Column<V> column) throws SQLException {
+        return ((Column<V>) plan[position(column)]).cellValue(resultSet);
+    }
+
+    @Override
+    public int intValue(final IntColumn column) throws SQLException {
+        return ((IntColumn) plan[position(column)]).intCellValue(resultSet);
+    }
+
+    @Override
+    public long longValue(final LongColumn column) throws SQLException {
+        return ((LongColumn) plan[position(column)]).longCellValue(resultSet);
+    }
+
+    @Override
+    public double doubleValue(final DoubleColumn column) throws SQLException {
+        return ((DoubleColumn) plan[position(column)]).doubleCellValue(resultSet);
+    }
+
+    private int position(final Column<?> column) {
+        final Integer position = positions.get(column);
+        if (position == null) {
+            throw new IllegalArgumentException("The column is not one of the columns of the row.");
+        }
+
+        return position;
+    }
+}
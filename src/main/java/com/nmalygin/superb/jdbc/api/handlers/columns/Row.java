@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.columns;
+
+import java.sql.SQLException;
+
+/**
+ * The current row of a result set, read through the columns of a {@link RowColumn}.
+ *
+ * @author Nikolai Malygin
+ */
+@SuppressWarnings("PMD.ShortClassName")
+public interface Row {
+
+    /**
+     *
+     * @param column One of the columns of the row
+     * @return Value of the cell of the column
+     * @param <V> Type of the column
+     * @throws SQLException If cell value do not get from the result set
+     */
+    <V> V value(Column<V> column) throws SQLException;
+
+    /**
+     *
+     * @param column One of the columns of the row
+     * @return Value of the cell of the column
+     * @throws SQLException If cell value do not get from the result set
+     */
+    int intValue(IntColumn column) throws SQLException;
+
+    /**
+     *
+     * @param column One of the columns of the row
+     * @return Value of the cell of the column
+     * @throws SQLException If cell value do not get from the result set
+     */
+    long longValue(LongColumn column) throws SQLException;
+
+    /**
+     *
+     * @param column One of the columns of the row
+     * @return Value of the cell of the column
+     * @throws SQLException If cell value do not get from the result set
+     */
+    double doubleValue(DoubleColumn column) throws SQLException;
+}
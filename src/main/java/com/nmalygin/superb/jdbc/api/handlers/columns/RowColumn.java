@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.columns;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * RowColumn maps several columns of a row to one object. The positions of the columns are resolved once, and bound to a
+ * result set it resolves all its columns once too, so every row is read by indexes. It can be used with any handler that accepts a {@link Column}.
+ *
+ * @param <T> Type of the object created from a row
+ * @author Nikolai Malygin
+ */
+public final class RowColumn<T> implements Column<T> {
+
+    private final RowMapper<T> mapper;
+    private final Column<?>[] columns;
+    private final Map<Column<?>, Integer> positions;
+
+    /**
+     *
+     * @param mapper creates an object from the row
+     * @param columns columns the mapper reads
+     */
+    public RowColumn(final RowMapper<T> mapper, final Column<?>... columns) {
+        this.mapper = mapper;
+        this.columns = columns.clone();
+        this.positions = indexed(columns);
+    }
+
+    /**
+     *
+     * @param resultSet Result set on the specific row
+     * @return The object created from the row
+     * @throws SQLException SQLException
+     */
+    @Override
+    public T cellValue(final ResultSet resultSet) throws SQLException {
+        return mapper.map(new PlannedRow(resultSet, positions, columns));
+    }
+
+    /**
+     *
+     * @param resultSet Result set the columns are read from
+     * @return The column that reads every row through the columns bound to the resultSet
+     * @throws SQLException If one of the columns is not found in the resultSet
+     */
+    @Override
+    public Column<T> boundTo(final ResultSet resultSet) throws SQLException {
+        final Column<?>[] bound = new Column<?>[columns.length];
+        for (int index = 0; index < columns.length; index++) {
+            bound[index] = columns[index].boundTo(resultSet);
+        }
+
+        return new BoundRowColumn<>(mapper, new PlannedRow(resultSet, positions, bound));
+    }
+
+    @SuppressWarnings("PMD.UseConcurrentHashMap")
+    private static Map<Column<?>, Integer> indexed(final Column<?>... columns) {
+        final Map<Column<?>, Integer> indexed = new IdentityHashMap<>();
+        for (int index = columns.length - 1; index >= 0; index--) {
+            indexed.put(columns[index], index);
+        }
+
+        return indexed;
+    }
+}
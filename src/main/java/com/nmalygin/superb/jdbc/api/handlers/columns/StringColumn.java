@@ -35,13 +35,30 @@ import java.sql.SQLException;
 public final class StringColumn implements Column<String> {
 
     private final String name;
+    private final int index;
+
+    private StringColumn(final String name, final int index) {
+        this.name = name;
+        this.index = index;
+    }
 
     /**
      *
      * @param name column name
      */
     public StringColumn(final String name) {
-        this.name = name;
+        this(name, 0);
+    }
+
+    /**
+     *
+     * @param resultSet Result set the column is read from
+     * @return The column that reads the cells by the index of the column in the resultSet
+     * @throws SQLException If the column is not found in the resultSet
+     */
+    @Override
+    public StringColumn boundTo(final ResultSet resultSet) throws SQLException {
+        return new StringColumn(name, resultSet.findColumn(name));
     }
 
     /**
@@ -52,6 +69,6 @@ public final class StringColumn implements Column<String> {
      */
     @Override
     public String cellValue(final ResultSet resultSet) throws SQLException {
-        return resultSet.getString(name);
+        return index == 0 ? resultSet.getString(name) : resultSet.getString(index);
     }
 }
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.csv;
+
+import com.nmalygin.superb.jdbc.api.handlers.binary.RowEncoder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CsvEncoder encodes the fields of the rows as RFC 4180 CSV in UTF-8 into a buffer that is written to the channel
+ * whenever it is full, so a row of any size fits. A string that is not valid UTF-16 (e.g. with an unpaired surrogate) is
+ * encoded with '?' in place of the invalid characters.
+ */
+final class CsvEncoder implements RowEncoder {
+
+    private static final int LONG_DIGITS = 20;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder;
+    private boolean firstCell;
+
+    CsvEncoder(final WritableByteChannel channel, final ByteBuffer buffer, final CharsetEncoder encoder) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.encoder = encoder;
+        this.firstCell = true;
+    }
+
+    CsvEncoder(final WritableByteChannel channel, final int bufferSize) {
+        this(
+                channel,
+                ByteBuffer.allocateDirect(bufferSize),
+                StandardCharsets.UTF_8.newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE)
+        );
+    }
+
+    @Override
+    public void putInt(final int value) {
+        putLong(value);
+    }
+
+    @Override
+    public void putLong(final long value) {
+        putNull();
+        if (buffer.remaining() < LONG_DIGITS) {
+            flush();
+        }
+        if (value < 0) {
+            buffer.put((byte) '-');
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        final int end = buffer.position() + digits;
+        long rest = value;
+        for (int position = end - 1; position >= buffer.position(); position--) {
+            buffer.put(position, (byte) ('0' + Math.abs(rest % 10)));
+            rest /= 10;
+        }
+        buffer.position(end);
+    }
+
+    @Override
+    public void putDouble(final double value) {
+        putNull();
+        final String text = Double.toString(value);
+        for (int index = 0; index < text.length(); index++) {
+            put(text.charAt(index));
+        }
+    }
+
+    /**
+     * Puts an empty cell, every other cell starts with it as the separator from the previous cell.
+     */
+    @Override
+    public void putNull() {
+        if (!firstCell) {
+            put(',');
+        }
+        firstCell = false;
+    }
+
+    @Override
+    public void putString(final String value) {
+        putNull();
+        if (value != null) {
+            if (quoted(value)) {
+                put('"');
+                int start = 0;
+                for (int index = value.indexOf('"'); index >= 0; index = value.indexOf('"', start)) {
+                    encode(CharBuffer.wrap(value, start, index + 1));
+                    put('"');
+                    start = index + 1;
+                }
+                encode(CharBuffer.wrap(value, start, value.length()));
+                put('"');
+            } else {
+                encode(CharBuffer.wrap(value));
+            }
+        }
+    }
+
+    void endRow() {
+        put('\r');
+        put('\n');
+        firstCell = true;
+    }
+
+    void flush() {
+        try {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    private void put(final char ascii) {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) ascii);
+    }
+
+    private void encode(final CharBuffer chars) {
+        encoder.reset();
+        CoderResult result = encoder.encode(chars, buffer, true);
+        while (result.isOverflow()) {
+            flush();
+            result = encoder.encode(chars, buffer, true);
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            flush();
+        }
+    }
+
+    private static boolean quoted(final String value) {
+        boolean special = false;
+        for (int index = 0; index < value.length() && !special; index++) {
+            final char character = value.charAt(index);
+            special = character == ',' || character == '"' || character == '\r' || character == '\n';
+        }
+
+        return special;
+    }
+}
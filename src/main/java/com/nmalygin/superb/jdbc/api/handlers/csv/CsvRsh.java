@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.csv;
+
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+import com.nmalygin.superb.jdbc.api.handlers.binary.Field;
+
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * CsvRsh writes the rows of the result set to the channel as CSV (RFC 4180, UTF-8, SQL NULL as an empty cell)
+ * through a reusable direct buffer of bufferSize bytes. Numbers and strings are encoded straight into the buffer,
+ * no String is built per row. The channel is not closed.
+ *
+ * @author Nikolai Malygin
+ */
+public final class CsvRsh implements ResultSetHandler<Long> {
+
+    private static final int MIN_BUFFER_SIZE = 32;
+
+    private final WritableByteChannel channel;
+    private final int bufferSize;
+    private final Field[] fields;
+
+    /**
+     *
+     * @param channel target channel
+     * @param bufferSize size of the direct buffer in bytes, at least 32
+     * @param fields fields of a row, in the order of the cells
+     */
+    public CsvRsh(final WritableByteChannel channel, final int bufferSize, final Field... fields) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer size must be at least 32 bytes: " + bufferSize);
+        }
+        this.channel = channel;
+        this.bufferSize = bufferSize;
+        this.fields = fields.clone();
+    }
+
+    /**
+     *
+     * @param channel target channel
+     * @param fields fields of a row, in the order of the cells
+     */
+    public CsvRsh(final WritableByteChannel channel, final Field... fields) {
+        this(channel, 1 << 16, fields);
+    }
+
+    /**
+     *
+     * @param resultSet ResultSet
+     * @return number of rows written
+     * @throws SQLException If the resultSet or the channel fails
+     */
+    @Override
+    public Long handle(final ResultSet resultSet) throws SQLException {
+        final Field[] bound = new Field[fields.length];
+        for (int index = 0; index < fields.length; index++) {
+            bound[index] = fields[index].boundTo(resultSet);
+        }
+        final CsvEncoder encoder = new CsvEncoder(channel, bufferSize);
+        long rows = 0;
+        try {
+            while (resultSet.next()) {
+                for (final Field field : bound) {
+                    field.write(resultSet, encoder);
+                }
+                encoder.endRow();
+                rows++;
+            }
+            encoder.flush();
+        } catch (UncheckedIOException e) {
+            throw new SQLException("The rows can not be written to the channel", e);
+        }
+
+        return rows;
+    }
+}
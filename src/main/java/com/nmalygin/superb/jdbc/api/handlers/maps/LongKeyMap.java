@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.maps;
+
+/**
+ * LongKeyMap is a hash map with primitive long keys (open addressing with linear probing). Keys are not boxed and
+ * there is no entry object per mapping, so a mapping costs a long and a reference in two parallel arrays.
+ *
+ * @param <V> Type of the values
+ * @author Nikolai Malygin
+ */
+public final class LongKeyMap<V> {
+
+    private static final double LOAD_FACTOR = 0.75;
+
+    private long[] keys;
+    private Object[] values;
+    private int shift;
+    private int mappings;
+    private boolean zeroKey;
+    private Object zeroValue;
+
+    /**
+     *
+     * @param expectedSize expected number of mappings, the map grows if it gets more
+     */
+    public LongKeyMap(final int expectedSize) {
+        final int capacity = Math.max(2, Integer.highestOneBit((int) Math.ceil(expectedSize / LOAD_FACTOR) - 1) << 1);
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.shift = Long.numberOfLeadingZeros(capacity - 1L);
+        this.mappings = 0;
+        this.zeroKey = false;
+    }
+
+    /**
+     *
+     * @param key key
+     * @param value value
+     */
+    public void put(final long key, final V value) {
+        if (key == 0) {
+            if (!zeroKey) {
+                mappings++;
+            }
+            zeroKey = true;
+            zeroValue = value;
+        } else {
+            final int slot = slot(keys, key);
+            if (keys[slot] == 0) {
+                keys[slot] = key;
+                mappings++;
+            }
+            values[slot] = value;
+            if (mappings > keys.length * LOAD_FACTOR) {
+                grow();
+            }
+        }
+    }
+
+    /**
+     *
+     * @param key key
+     * @return value of the key, null if the map has no mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final long key) {
+        final Object value;
+        if (key == 0) {
+            value = zeroValue;
+        } else {
+            value = values[slot(keys, key)];
+        }
+
+        return (V) value;
+    }
+
+    /**
+     *
+     * @param key key
+     * @return true if the map has a mapping for the key
+     */
+    public boolean containsKey(final long key) {
+        return key == 0 ? zeroKey : keys[slot(keys, key)] != 0;
+    }
+
+    /**
+     *
+     * @return Number of mappings
+     */
+    public int size() {
+        return mappings;
+    }
+
+    private int slot(final long[] table, final long key) {
+        final int mask = table.length - 1;
+        int slot = (int) (key * 0x9E3779B97F4A7C15L >>> shift);
+        while (table[slot] != 0 && table[slot] != key) {
+            slot = slot + 1 & mask;
+        }
+
+        return slot;
+    }
+
+    private void grow() {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldKeys.length * 2];
+        shift--;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                final int slot = slot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.vectors;
+
+import com.nmalygin.superb.jdbc.api.handlers.columns.StringColumn;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DictionaryVector keeps the values of a low-cardinality string column as int codes of a dictionary
+ * (SQL NULL is coded as -1). The dictionary is kept when the vector is cleared, so codes are stable across chunks.
+ *
+ * @author Nikolai Malygin
+ */
+public final class DictionaryVector implements Vector {
+
+    private StringColumn column;
+    private int[] buffer;
+    private int count;
+    private final List<String> values;
+    private final Map<String, Integer> codesOfValues;
+
+    /**
+     *
+     * @param column string column
+     * @param capacity expected number of rows, the buffer grows if the result set is larger
+     */
+    public DictionaryVector(final StringColumn column, final int capacity) {
+        this.column = column;
+        this.buffer = new int[capacity];
+        this.count = 0;
+        this.values = new ArrayList<>();
+        this.codesOfValues = new HashMap<>();
+    }
+
+    /**
+     *
+     * @param column string column
+     */
+    public DictionaryVector(final StringColumn column) {
+        this(column, 16);
+    }
+
+    @Override
+    public void bindTo(final ResultSet resultSet) throws SQLException {
+        column = column.boundTo(resultSet);
+    }
+
+    @Override
+    public void add(final ResultSet resultSet) throws SQLException {
+        if (count == buffer.length) {
+            buffer = Arrays.copyOf(buffer, count * 2 + 1);
+        }
+        buffer[count] = code(column.cellValue(resultSet));
+        count++;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     *
+     * @param index Index of the row in the vector
+     * @return The code of the value of the row, -1 for SQL NULL
+     */
+    public int code(final int index) {
+        if (index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + count);
+        }
+
+        return buffer[index];
+    }
+
+    /**
+     *
+     * @param index Index of the row in the vector
+     * @return The value of the row, null for SQL NULL
+     */
+    public String value(final int index) {
+        final int code = code(index);
+
+        return code < 0 ? null : values.get(code);
+    }
+
+    /**
+     *
+     * @return Copy of the codes, the length of the array is the size of the vector
+     */
+    public int[] codes() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     *
+     * @return Values of the dictionary, the index of a value is its code
+     */
+    public List<String> dictionary() {
+        return Collections.unmodifiableList(values);
+    }
+
+    private int code(final String value) {
+        int code = -1;
+        if (value != null) {
+            final Integer known = codesOfValues.get(value);
+            if (known == null) {
+                code = values.size();
+                codesOfValues.put(value, code);
+                values.add(value);
+            } else {
+                code = known;
+            }
+        }
+
+        return code;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.handlers.vectors;
+
+import com.nmalygin.superb.jdbc.api.handlers.columns.IntColumn;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * IntVector keeps the values of the column in a growable int[] without boxing
+ * (SQL NULL is kept as 0 and marked in a bitmap, see {@link #isNull(int)}).
+ *
+ * @author Nikolai Malygin
+ */
+public final class IntVector implements Vector {
+
+    private IntColumn column;
+    private int[] buffer;
+    private int count;
+    private final BitSet bitmap;
+
+    /**
+     *
+     * @param column int column
+     * @param capacity expected number of rows, the buffer grows if the result set is larger
+     */
+    public IntVector(final IntColumn column, final int capacity) {
+        this.column = column;
+        this.buffer = new int[capacity];
+        this.count = 0;
+        this.bitmap = new BitSet();
+    }
+
+    /**
+     *
+     * @param column int column
+     */
+    public IntVector(final IntColumn column) {
+        this(column, 16);
+    }
+
+    @Override
+    public void bindTo(final ResultSet resultSet) throws SQLException {
+        column = column.boundTo(resultSet);
+    }
+
+    @Override
+    public void add(final ResultSet resultSet) throws SQLException {
+        if (count == buffer.length) {
+            buffer = Arrays.copyOf(buffer, count * 2 + 1);
+        }
+        buffer[count] = column.intCellValue(resultSet);
+        bitmap.set(count, resultSet.wasNull());
+        count++;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        count = 0;
+        bitmap.clear();
+    }
+
+    /**
+     *
+     * @param index Index of the row in the vector
+     * @return The value of the row, 0 for SQL NULL
+     */
+    public int value(final int index) {
+        if (index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + count);
+        }
+
+        return buffer[index];
+    }
+
+    /**
+     *
+     * @return Copy of the values, the length of the array is the size of the vector
+     */
+    public int[] values() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     *
+     * @param index Index of the row in the vector
+     * @return true if the value of the row is SQL NULL
+     */
+    public boolean isNull(final int index) {
+        if (index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + count);
+        }
+
+        return bitmap.get(index);
+    }
+
+    /**
+     *
+     * @return Copy of the null bitmap, a set bit marks the row with SQL NULL
+     */
+    public BitSet nulls() {
+        return bitmap.get(0, count);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.imports;
+
+import com.nmalygin.superb.jdbc.api.Batch;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+
+final class BinaryRecords implements Records {
+
+    private final Cell[] cells;
+
+    @SuppressWarnings({"PMD.UseVarargs", "PMD.ArrayIsStoredDirectly"})
+    BinaryRecords(final Cell[] cells) {
+        this.cells = cells;
+    }
+
+    @Override
+    public int putNext(final ByteBuffer window, final int from, final boolean last, final Batch batch)
+            throws SQLException {
+        final int limit = window.limit();
+        final int end = limit - from < Integer.BYTES ? -1 : from + Integer.BYTES + window.getInt(from);
+        final boolean complete = end >= from && end <= limit;
+        if (complete) {
+            read(window, from);
+            if (window.position() != end) {
+                throw new SQLException("Fields do not match the record at " + from);
+            }
+            batch.put(cells);
+        } else if (last) {
+            throw new SQLException("Truncated record at " + from);
+        }
+
+        return complete ? end : -1;
+    }
+
+    @Override
+    public int end(final ByteBuffer window) {
+        return window.limit();
+    }
+
+    private void read(final ByteBuffer window, final int from) throws SQLException {
+        window.position(from + Integer.BYTES);
+        try {
+            for (final Cell cell : cells) {
+                cell.read(window);
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new SQLException("Malformed field in the record at " + from, e);
+        }
+    }
+}
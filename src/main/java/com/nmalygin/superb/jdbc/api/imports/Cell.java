@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.imports;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A reusable argument whose value is parsed from the current record of an imported file.
+ * The value is passed to the batch before the next record is parsed.
+ *
+ * @author Nikolai Malygin
+ */
+@SuppressWarnings("PMD.ShortClassName")
+public interface Cell extends Argument {
+
+    /**
+     * Parses the text of a CSV field, an empty unquoted field is SQL NULL.
+     *
+     * @param bytes UTF-8 bytes of the file
+     * @param from index of the first byte of the field (after the opening quote)
+     * @param until index after the last byte of the field (before the closing quote)
+     * @param quoted true if the field is quoted, doubled quotes are then escaped quotes
+     */
+    void parse(ByteBuffer bytes, int from, int until, boolean quoted);
+
+    /**
+     * Reads the field in the compact binary row format at the position of the buffer and moves the position.
+     *
+     * @param bytes bytes of the file
+     */
+    void read(ByteBuffer bytes);
+}
@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.imports;
+
+import com.nmalygin.superb.jdbc.api.Batch;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+
+final class CsvRecords implements Records {
+
+    private static final int PENDING = -2;
+    private static final int INCOMPLETE = -1;
+    private static final byte QUOTE = '"';
+    private static final byte COMMA = ',';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte LINE_FEED = '\n';
+
+    private final Cell[] cells;
+    private final int[] starts;
+    private final int[] ends;
+    private final boolean[] quoted;
+
+    @SuppressWarnings({"PMD.UseVarargs", "PMD.ArrayIsStoredDirectly"})
+    CsvRecords(final Cell[] cells) {
+        this.cells = cells;
+        this.starts = new int[cells.length];
+        this.ends = new int[cells.length];
+        this.quoted = new boolean[cells.length];
+    }
+
+    @Override
+    public int putNext(final ByteBuffer window, final int from, final boolean last, final Batch batch)
+            throws SQLException {
+        final int end = fields(window, from, last);
+        if (end != INCOMPLETE) {
+            parse(window, from);
+            batch.put(cells);
+        }
+
+        return end;
+    }
+
+    @Override
+    public int end(final ByteBuffer window) {
+        int end = window.limit();
+        while (end > 0 && lineBreak(window.get(end - 1))) {
+            end--;
+        }
+
+        return end;
+    }
+
+    private void parse(final ByteBuffer window, final int from) throws SQLException {
+        try {
+            for (int index = 0; index < cells.length; index++) {
+                cells[index].parse(window, starts[index], ends[index], quoted[index]);
+            }
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new SQLException("Malformed field in the record at " + from, e);
+        }
+    }
+
+    private int fields(final ByteBuffer window, final int from, final boolean last) throws SQLException {
+        int position = from;
+        int field = 0;
+        int end = PENDING;
+        while (end == PENDING) {
+            if (field == cells.length) {
+                throw new SQLException("More than " + cells.length + " fields in the record at " + from);
+            }
+            position = field(window, position, last, field);
+            field++;
+            if (position == window.limit()) {
+                end = last ? position : INCOMPLETE;
+            } else if (window.get(position) == COMMA) {
+                position++;
+            } else {
+                end = lineEnd(window, position, last);
+            }
+        }
+
+        return checked(end, field, from);
+    }
+
+    private int checked(final int end, final int fields, final int from) throws SQLException {
+        if (end != INCOMPLETE && fields != cells.length) {
+            throw new SQLException(fields + " fields instead of " + cells.length + " in the record at " + from);
+        }
+
+        return end;
+    }
+
+    private int field(final ByteBuffer window, final int from, final boolean last, final int field)
+            throws SQLException {
+        final int limit = window.limit();
+        quoted[field] = from < limit && window.get(from) == QUOTE;
+        starts[field] = quoted[field] ? from + 1 : from;
+        int position = starts[field];
+        if (quoted[field]) {
+            position = closingQuote(window, position, last);
+            ends[field] = position;
+            position = Math.min(position + 1, limit);
+        } else {
+            while (position < limit && !separator(window.get(position))) {
+                position++;
+            }
+            ends[field] = position;
+        }
+
+        return position;
+    }
+
+    private static int closingQuote(final ByteBuffer window, final int from, final boolean last)
+            throws SQLException {
+        final int limit = window.limit();
+        int position = from;
+        boolean closed = false;
+        while (position < limit && !closed) {
+            final boolean quote = window.get(position) == QUOTE;
+            final boolean escaped = quote && position + 1 < limit && window.get(position + 1) == QUOTE;
+            if (escaped) {
+                position += 2;
+            } else if (quote) {
+                closed = position + 1 < limit || last;
+                position = closed ? position : limit;
+            } else {
+                position++;
+            }
+        }
+        if (!closed && last) {
+            throw new SQLException("Unterminated quoted field at " + from);
+        }
+
+        return position;
+    }
+
+    private static int lineEnd(final ByteBuffer window, final int position, final boolean last)
+            throws SQLException {
+        final byte separator = window.get(position);
+        if (!lineBreak(separator)) {
+            throw new SQLException("Unexpected character after a quoted field at " + position);
+        }
+        final int next = position + 1;
+        final int end;
+        if (separator == LINE_FEED) {
+            end = next;
+        } else if (next < window.limit()) {
+            end = window.get(next) == LINE_FEED ? next + 1 : next;
+        } else {
+            end = last ? next : INCOMPLETE;
+        }
+
+        return end;
+    }
+
+    private static boolean separator(final byte character) {
+        return character == COMMA || lineBreak(character);
+    }
+
+    private static boolean lineBreak(final byte character) {
+        return character == LINE_FEED || character == CARRIAGE_RETURN;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.imports;
+
+import com.nmalygin.superb.jdbc.api.Batch;
+import com.nmalygin.superb.jdbc.api.BatchSource;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * CsvSource reads the records of a CSV file (RFC 4180, UTF-8) through memory-mapped windows of the file.
+ * The fields are parsed straight from the mapped bytes into reusable cells, one cell per field in the order of the
+ * fields, and the cells are the arguments of a batch operation.
+ *
+ * @author Nikolai Malygin
+ */
+public final class CsvSource implements BatchSource {
+
+    private final Path file;
+    private final int window;
+    private final Cell[] cells;
+
+    /**
+     *
+     * @param file the file
+     * @param window size of a mapped window in bytes, a record must fit in a window
+     * @param cells cells of a record
+     */
+    public CsvSource(final Path file, final int window, final Cell... cells) {
+        this.file = file;
+        this.window = window;
+        this.cells = cells.clone();
+    }
+
+    /**
+     *
+     * @param file the file
+     * @param cells cells of a record
+     */
+    public CsvSource(final Path file, final Cell... cells) {
+        this(file, 1 << 28, cells);
+    }
+
+    /**
+     *
+     * @param batch the batch
+     * @return Number of records put
+     * @throws SQLException If the file is not read or a record is malformed
+     */
+    @Override
+    public long putInto(final Batch batch) throws SQLException {
+        return new MappedFile(file, window).putInto(batch, new CsvRecords(cells));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.imports;
+
+import java.nio.ByteBuffer;
+
+final class Digits {
+
+    private final int radix;
+
+    Digits(final int radix) {
+        this.radix = radix;
+    }
+
+    Digits() {
+        this(10);
+    }
+
+    long value(final ByteBuffer bytes, final int from, final int until) {
+        final boolean negative = from < until && bytes.get(from) == '-';
+        final int first = first(bytes, from, until);
+        long value = 0;
+        for (int index = first; index < until; index++) {
+            final int digit = Character.digit(bytes.get(index), radix);
+            if (digit < 0) {
+                throw new NumberFormatException("Not a digit at " + index);
+            }
+            value = Math.addExact(Math.multiplyExact(value, radix), negative ? -digit : digit);
+        }
+
+        return value;
+    }
+
+    private static int first(final ByteBuffer bytes, final int from, final int until) {
+        final byte sign = from < until ? bytes.get(from) : 0;
+        final int first = sign == '-' || sign == '+' ? from + 1 : from;
+        if (first >= until) {
+            throw new NumberFormatException("No digits at " + from);
+        }
+
+        return first;
+    }
+}
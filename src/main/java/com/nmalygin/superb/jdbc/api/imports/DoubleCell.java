@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.imports;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * DoubleCell parses the field with {@link Double#parseDouble}, the characters are copied into a reusable array
+ *
+ * @author Nikolai Malygin
+ */
+public final class DoubleCell implements Cell {
+
+    private char[] chars;
+    private double value;
+    private boolean absent;
+
+    /**
+     * Creates the cell.
+     */
+    public DoubleCell() {
+        this.chars = new char[32];
+        this.absent = true;
+    }
+
+    @Override
+    public void parse(final ByteBuffer bytes, final int from, final int until, final boolean quoted) {
+        absent = from == until && !quoted;
+        if (absent) {
+            value = 0;
+        } else {
+            if (until - from > chars.length) {
+                chars = new char[until - from];
+            }
+            for (int index = from; index < until; index++) {
+                chars[index - from] = (char) bytes.get(index);
+            }
+            value = Double.parseDouble(String.valueOf(chars, 0, until - from));
+        }
+    }
+
+    @Override
+    public void read(final ByteBuffer bytes) {
+        absent = bytes.get() != 0;
+        value = absent ? 0 : bytes.getDouble();
+    }
+
+    @Override
+    public void pass(final PreparedStatement preparedStatement, final int position) throws SQLException {
+        if (absent) {
+            preparedStatement.setNull(position, Types.DOUBLE);
+        } else {
+            preparedStatement.setDouble(position, value);
+        }
+    }
+}
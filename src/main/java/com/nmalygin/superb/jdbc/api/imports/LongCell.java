@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.imports;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * LongCell parses the decimal digits of the field straight from the bytes, without a String
+ *
+ * @author Nikolai Malygin
+ */
+public final class LongCell implements Cell {
+
+    private final Digits digits;
+    private long value;
+    private boolean absent;
+
+    /**
+     * Creates the cell.
+     */
+    public LongCell() {
+        this.digits = new Digits();
+        this.absent = true;
+    }
+
+    @Override
+    public void parse(final ByteBuffer bytes, final int from, final int until, final boolean quoted) {
+        absent = from == until && !quoted;
+        value = absent ? 0 : digits.value(bytes, from, until);
+    }
+
+    @Override
+    public void read(final ByteBuffer bytes) {
+        absent = bytes.get() != 0;
+        value = absent ? 0 : bytes.getLong();
+    }
+
+    @Override
+    public void pass(final PreparedStatement preparedStatement, final int position) throws SQLException {
+        if (absent) {
+            preparedStatement.setNull(position, Types.BIGINT);
+        } else {
+            preparedStatement.setLong(position, value);
+        }
+    }
+}
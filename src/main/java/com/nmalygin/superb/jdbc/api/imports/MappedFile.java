@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.imports;
+
+import com.nmalygin.superb.jdbc.api.Batch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+
+final class MappedFile {
+
+    private final Path file;
+    private final int window;
+
+    MappedFile(final Path file, final int window) {
+        this.file = file;
+        this.window = window;
+    }
+
+    long putInto(final Batch batch, final Records records) throws SQLException {
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            long offset = 0;
+            while (offset < size) {
+                final ByteBuffer mapped = channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        offset,
+                        Math.min(window, size - offset)
+                );
+                final boolean last = offset + mapped.limit() == size;
+                if (last) {
+                    mapped.limit(records.end(mapped));
+                }
+                int consumed = 0;
+                int next = mapped.hasRemaining() ? records.putNext(mapped, consumed, last, batch) : -1;
+                while (next >= 0) {
+                    count++;
+                    consumed = next;
+                    next = consumed < mapped.limit() ? records.putNext(mapped, consumed, last, batch) : -1;
+                }
+                offset = last ? size : checked(offset, consumed);
+            }
+        } catch (IOException e) {
+            throw new SQLException("The records can not be read from " + file, e);
+        }
+
+        return count;
+    }
+
+    private long checked(final long offset, final int consumed) throws SQLException {
+        if (consumed == 0) {
+            throw new SQLException("Record at " + offset + " is larger than " + window + " bytes");
+        }
+
+        return offset + consumed;
+    }
+}
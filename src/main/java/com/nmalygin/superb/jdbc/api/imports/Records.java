@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.imports;
+
+import com.nmalygin.superb.jdbc.api.Batch;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+
+interface Records {
+    /**
+     * Puts the record that starts at the index into the batch.
+     *
+     * @param window mapped window of the file
+     * @param from index of the first byte of the record
+     * @param last true if the window ends at the end of the file
+     * @param batch the batch
+     * @return index after the record, or -1 if the record does not end in the window
+     * @throws SQLException SQLException
+     */
+    int putNext(ByteBuffer window, int from, boolean last, Batch batch) throws SQLException;
+
+    /**
+     * End of the records in the last window of the file, the bytes after it are not a record (e.g. blank lines).
+     *
+     * @param window mapped window at the end of the file
+     * @return index after the last record
+     */
+    int end(ByteBuffer window);
+}
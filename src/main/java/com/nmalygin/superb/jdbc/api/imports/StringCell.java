@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.imports;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * StringCell decodes the UTF-8 bytes of the field through a reusable decoder and char buffer
+ *
+ * @author Nikolai Malygin
+ */
+@SuppressWarnings("PMD.NullAssignment")
+public final class StringCell implements Cell {
+
+    private final CharsetDecoder decoder;
+    private CharBuffer chars;
+    private String value;
+
+    /**
+     * Creates the cell.
+     */
+    public StringCell() {
+        this.decoder = StandardCharsets.UTF_8.newDecoder();
+        this.chars = CharBuffer.allocate(64);
+    }
+
+    @Override
+    public void parse(final ByteBuffer bytes, final int from, final int until, final boolean quoted) {
+        if (from == until && !quoted) {
+            value = null;
+        } else {
+            final String decoded = decode(bytes, from, until);
+            value = quoted ? decoded.replace("\"\"", "\"") : decoded;
+        }
+    }
+
+    @Override
+    public void read(final ByteBuffer bytes) {
+        final int length = bytes.getInt();
+        if (length < 0) {
+            value = null;
+        } else {
+            value = decode(bytes, bytes.position(), bytes.position() + length);
+            bytes.position(bytes.position() + length);
+        }
+    }
+
+    @Override
+    public void pass(final PreparedStatement preparedStatement, final int position) throws SQLException {
+        preparedStatement.setString(position, value);
+    }
+
+    private String decode(final ByteBuffer bytes, final int from, final int until) {
+        if (chars.capacity() < until - from) {
+            chars = CharBuffer.allocate(until - from);
+        }
+        final ByteBuffer field = bytes.duplicate();
+        field.limit(until).position(from);
+        chars.clear();
+        decoder.reset();
+        if (decoder.decode(field, chars, true).isError()) {
+            throw new IllegalArgumentException("Malformed UTF-8 at " + field.position());
+        }
+        decoder.flush(chars);
+        chars.flip();
+
+        return chars.toString();
+    }
+}
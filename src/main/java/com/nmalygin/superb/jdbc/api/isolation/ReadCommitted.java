@@ -47,4 +47,13 @@ public final class ReadCommitted implements IsolationLevel {
     public void applyTo(final Connection connection) throws SQLException {
         connection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
     }
+
+    /**
+     *
+     * @return {@link Connection#TRANSACTION_READ_COMMITTED}
+     */
+    @Override
+    public int level() {
+        return Connection.TRANSACTION_READ_COMMITTED;
+    }
 }
@@ -47,4 +47,13 @@ public final class ReadUncommitted implements IsolationLevel {
     public void applyTo(final Connection connection) throws SQLException {
         connection.setTransactionIsolation(Connection.TRANSACTION_READ_UNCOMMITTED);
     }
+
+    /**
+     *
+     * @return {@link Connection#TRANSACTION_READ_UNCOMMITTED}
+     */
+    @Override
+    public int level() {
+        return Connection.TRANSACTION_READ_UNCOMMITTED;
+    }
 }
@@ -47,4 +47,13 @@ public final class RepeatableRead implements IsolationLevel {
     public void applyTo(final Connection connection) throws SQLException {
         connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
     }
+
+    /**
+     *
+     * @return {@link Connection#TRANSACTION_REPEATABLE_READ}
+     */
+    @Override
+    public int level() {
+        return Connection.TRANSACTION_REPEATABLE_READ;
+    }
 }
@@ -47,4 +47,13 @@ public final class Serializable implements IsolationLevel {
     public void applyTo(final Connection connection) throws SQLException {
         connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
     }
+
+    /**
+     *
+     * @return {@link Connection#TRANSACTION_SERIALIZABLE}
+     */
+    @Override
+    public int level() {
+        return Connection.TRANSACTION_SERIALIZABLE;
+    }
 }
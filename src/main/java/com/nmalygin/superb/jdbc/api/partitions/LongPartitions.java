@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.partitions;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.Partitions;
+import com.nmalygin.superb.jdbc.api.arguments.LongArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Split of a numeric key range into ranges of equal length.
+ *
+ * @author Nikolai Malygin
+ */
+public final class LongPartitions implements Partitions {
+
+    private final long start;
+    private final long end;
+    private final int count;
+
+    /**
+     *
+     * @param start inclusive lower bound of the key
+     * @param end exclusive upper bound of the key
+     * @param count number of ranges, fewer ranges are made if the key range is shorter
+     */
+    public LongPartitions(final long start, final long end, final int count) {
+        if (start >= end || count <= 0) {
+            throw new IllegalArgumentException("Empty partitions: [" + start + ", " + end + ") by " + count);
+        }
+        this.start = start;
+        this.end = end;
+        this.count = count;
+    }
+
+    @Override
+    public List<Argument[]> ranges() {
+        // the span and the step are unsigned, as the span of [Long.MIN_VALUE, Long.MAX_VALUE) exceeds Long.MAX_VALUE
+        final long span = end - start;
+        final long step = Long.divideUnsigned(span, count) + (Long.remainderUnsigned(span, count) == 0 ? 0 : 1);
+        final List<Argument[]> ranges = new ArrayList<>(count);
+        long lower = start;
+        long upper = start;
+        while (upper != end) {
+            upper = Long.compareUnsigned(end - lower, step) <= 0 ? end : lower + step;
+            ranges.add(new Argument[]{new LongArgument(lower), new LongArgument(upper)});
+            lower = upper;
+        }
+
+        return ranges;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.partitions;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.Partitions;
+import com.nmalygin.superb.jdbc.api.arguments.TimestampArgument;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Split of a time range into ranges of equal duration.
+ *
+ * @author Nikolai Malygin
+ */
+public final class TimestampPartitions implements Partitions {
+
+    private final Instant start;
+    private final Instant end;
+    private final int count;
+
+    /**
+     *
+     * @param start inclusive lower bound of the key
+     * @param end exclusive upper bound of the key
+     * @param count number of ranges
+     */
+    public TimestampPartitions(final Instant start, final Instant end, final int count) {
+        if (!start.isBefore(end) || count <= 0) {
+            throw new IllegalArgumentException("Empty partitions: [" + start + ", " + end + ") by " + count);
+        }
+        this.start = start;
+        this.end = end;
+        this.count = count;
+    }
+
+    @Override
+    public List<Argument[]> ranges() {
+        final Duration step = Duration.between(start, end).dividedBy(count);
+        final List<Argument[]> ranges = new ArrayList<>(count);
+        Instant lower = start;
+        for (int i = 1; i <= count; i++) {
+            final Instant upper = i == count ? end : start.plus(step.multipliedBy(i));
+            if (upper.isAfter(lower)) {
+                ranges.add(new Argument[]{new TimestampArgument(lower), new TimestampArgument(upper)});
+                lower = upper;
+            }
+        }
+
+        return ranges;
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.pools;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The lock-free part of {@link PoolDataSource}. A borrower first tries the entry it returned last (thread affinity),
+ * then scans the entries for an idle one, then creates a connection if the pool is not full, and only then waits. While
+ * anybody waits, a new borrower joins the end of the queue of waiters, and a returned entry is handed directly to the
+ * oldest waiter before it could become idle, so waiters are served in the order of their arrival.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class ConnectionPool {
+
+    private static final long SLICE = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long HOUSEKEEPING = TimeUnit.SECONDS.toNanos(30);
+    private static final long VALIDATION = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final DataSource origin;
+    private final int minSize;
+    private final int maxSize;
+    private final long maxLifetime;
+    private final long idleTimeout;
+    private final long connectionTimeout;
+    private final List<PoolEntry> entries;
+    private final AtomicInteger size;
+    private final PoolWaiters waiters;
+    private final ThreadLocal<PoolEntry> affinity;
+    private final LongAdder borrowings;
+    private final LongAdder creations;
+    private final LongAdder timeouts;
+    private final AtomicBoolean started;
+    private final AtomicBoolean closed;
+    private final ScheduledExecutorService housekeeper;
+
+    ConnectionPool(final DataSource origin, final int minSize, final int maxSize,
+         final long maxLifetime, final long idleTimeout, final long connectionTimeout) {
+        this.origin = origin;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.maxLifetime = maxLifetime;
+        this.idleTimeout = idleTimeout;
+        this.connectionTimeout = connectionTimeout;
+        this.entries = new CopyOnWriteArrayList<>();
+        this.size = new AtomicInteger();
+        this.closed = new AtomicBoolean();
+        this.waiters = new PoolWaiters(closed);
+        this.affinity = new ThreadLocal<>();
+        this.borrowings = new LongAdder();
+        this.creations = new LongAdder();
+        this.timeouts = new LongAdder();
+        this.started = new AtomicBoolean();
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "superb-jdbc-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    PoolEntry borrow() throws SQLException {
+        if (closed.get()) {
+            throw new SQLException("The pool is closed");
+        }
+        if (started.compareAndSet(false, true)) {
+            final long period = Math.max(SLICE, Math.min(HOUSEKEEPING, Math.min(idleTimeout, maxLifetime) / 2));
+            housekeeper.scheduleWithFixedDelay(this::housekeep, period, period, TimeUnit.NANOSECONDS);
+        }
+        borrowings.increment();
+        PoolEntry entry = null;
+        if (waiters.size() == 0) {
+            entry = affinity.get();
+            if (entry == null || !fresh(entry)) {
+                entry = available();
+            }
+        }
+
+        return entry == null ? awaited() : entry;
+    }
+
+    /**
+     * Returns the entry to the pool, a connection that is broken, can not be reset, has expired or belongs to a closed
+     * pool is closed instead. The entry is handed directly to the oldest waiter, it becomes idle only when nobody waits.
+     */
+    void requite(final PoolEntry entry, final SessionSettings settings, final boolean broken) {
+        final long now = System.nanoTime();
+        if (broken || closed.get() || entry.expired(now, maxLifetime) || !entry.restored(settings)) {
+            evict(entry);
+        } else if (!waiters.handedOff(entry)) {
+            entry.release(now);
+            affinity.set(entry);
+        }
+    }
+
+    PoolStats stats() {
+        int idle = 0;
+        for (final PoolEntry entry : entries) {
+            idle += entry.idle() ? 1 : 0;
+        }
+
+        return new PoolStats(size.get(), idle, waiters.size(), borrowings.sum(), creations.sum(), timeouts.sum());
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            housekeeper.shutdownNow();
+            for (final PoolEntry entry : entries) {
+                if (entry.retire()) {
+                    evict(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts idle connections that have expired or stayed idle for too long above the minimum size, and creates
+     * connections up to the minimum size.
+     */
+    void housekeep() {
+        final long now = System.nanoTime();
+        for (final PoolEntry entry : entries) {
+            if (entry.stale(now, maxLifetime, idleTimeout, size.get() > minSize) && entry.retire()) {
+                evict(entry);
+            }
+        }
+        try {
+            while (size.get() < minSize && !closed.get()) {
+                final PoolEntry entry = created();
+                if (entry == null) {
+                    break;
+                }
+                if (!waiters.handedOff(entry)) {
+                    entry.release(System.nanoTime());
+                }
+            }
+        } catch (SQLException ignored) {
+            // the next housekeeping or borrow tries again
+        }
+    }
+
+    /**
+     * Reserves the entry, a reserved connection that has expired or is not alive after a long idle time is evicted.
+     */
+    private boolean fresh(final PoolEntry entry) {
+        boolean fresh = entry.reserve();
+        if (fresh) {
+            final long now = System.nanoTime();
+            if (entry.expired(now, maxLifetime) || !entry.alive(now, VALIDATION)) {
+                evict(entry);
+                fresh = false;
+            }
+        }
+
+        return fresh;
+    }
+
+    /**
+     * Scans the entries for an idle one, then creates a connection if the pool is not full.
+     */
+    private PoolEntry available() throws SQLException {
+        PoolEntry available = null;
+        for (final PoolEntry entry : entries) {
+            if (fresh(entry)) {
+                available = entry;
+                break;
+            }
+        }
+
+        return available == null ? created() : available;
+    }
+
+    @SuppressWarnings({"PMD.CloseResource", "PMD.AvoidInstantiatingObjectsInLoops"})
+    private PoolEntry created() throws SQLException {
+        if (closed.get()) {
+            throw new SQLException("The pool is closed");
+        }
+        PoolEntry entry = null;
+        int current = size.get();
+        while (entry == null && current < maxSize) {
+            if (size.compareAndSet(current, current + 1)) {
+                try {
+                    final Connection physical = origin.getConnection();
+                    entry = new PoolEntry(physical, SessionSettings.current(physical), System.nanoTime());
+                    entries.add(entry);
+                    creations.increment();
+                } finally {
+                    if (entry == null) {
+                        size.decrementAndGet();
+                    }
+                }
+            } else {
+                current = size.get();
+            }
+        }
+
+        return entry;
+    }
+
+    /**
+     * Waits for a returned entry in the order of arrival. Only the oldest waiter scans the idle entries and creates
+     * connections, so a younger waiter never gets a connection before it. Once the pool is closed, every waiter fails
+     * on its next scan.
+     */
+    private PoolEntry awaited() throws SQLException {
+        final long deadline = System.nanoTime() + connectionTimeout;
+        final CompletableFuture<PoolEntry> turn = waiters.enqueue();
+        PoolEntry entry = null;
+        long remaining = connectionTimeout;
+        try {
+            while (entry == null && remaining > 0) {
+                entry = waiters.received(turn, Math.min(remaining, SLICE));
+                if (entry == null && waiters.scanning(turn)) {
+                    entry = available();
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        } finally {
+            final PoolEntry late = waiters.leave(turn, entry);
+            if (late != null) {
+                requite(late, new SessionSettings(), false);
+            }
+        }
+        if (entry == null) {
+            timeouts.increment();
+            throw new SQLTransientConnectionException(
+                    "No connection available in " + TimeUnit.NANOSECONDS.toMillis(connectionTimeout) + " ms"
+            );
+        }
+
+        return entry;
+    }
+
+    private void evict(final PoolEntry entry) {
+        entry.remove();
+        if (entries.remove(entry)) {
+            size.decrementAndGet();
+            try {
+                entry.connection().close();
+            } catch (SQLException ignored) {
+                // the connection is dropped anyway
+            }
+        }
+    }
+}
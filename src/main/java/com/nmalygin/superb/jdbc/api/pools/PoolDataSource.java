@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.pools;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.logging.Logger;
+
+/**
+ * A connection pool over the physical connections of an unpooled DataSource (e.g. a driver DataSource). The pool is
+ * tuned for the short borrows of queries and changes: a borrow and a return are a few atomic operations in the common
+ * case, and a thread usually gets back the connection it returned last.
+ * <p>
+ * Connections are created on demand up to the maximum size, the housekeeping keeps the minimum size and closes
+ * connections that have reached the maximum lifetime or stayed idle for longer than the idle timeout above the minimum
+ * size. When all connections are in use, borrowers wait in the order of their arrival up to the connection timeout,
+ * then {@link java.sql.SQLTransientConnectionException} is thrown. The connection timeout does not bound opening a
+ * physical connection, which is bounded by the login or connect timeout of the origin DataSource.
+ *
+ * @author Nikolai Malygin
+ */
+public final class PoolDataSource implements DataSource, AutoCloseable {
+
+    private static final Duration MAX_LIFETIME = Duration.ofMinutes(30);
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final ConnectionPool pool;
+
+    PoolDataSource(final ConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     *
+     * @param origin DataSource of the physical connections
+     * @param minSize number of connections kept open by the housekeeping
+     * @param maxSize maximum number of connections
+     * @param maxLifetime time after which a connection is closed once it is returned
+     * @param idleTimeout time after which an idle connection above the minimum size is closed
+     * @param connectionTimeout maximum time of waiting for a connection in use, opening a physical connection is
+     *                          bounded by the origin instead
+     */
+    public PoolDataSource(final DataSource origin, final int minSize, final int maxSize,
+                          final Duration maxLifetime, final Duration idleTimeout, final Duration connectionTimeout) {
+        this(new ConnectionPool(
+                origin,
+                checkedSizes(minSize, maxSize),
+                maxSize,
+                checkedPositive(maxLifetime),
+                checkedPositive(idleTimeout),
+                checkedPositive(connectionTimeout)
+        ));
+    }
+
+    /**
+     * Creates a pool with the maximum lifetime of 30 minutes, the idle timeout of 10 minutes and the connection timeout
+     * of 30 seconds.
+     *
+     * @param origin DataSource of the physical connections
+     * @param minSize number of connections kept open by the housekeeping
+     * @param maxSize maximum number of connections
+     */
+    public PoolDataSource(final DataSource origin, final int minSize, final int maxSize) {
+        this(origin, minSize, maxSize, MAX_LIFETIME, IDLE_TIMEOUT, TIMEOUT);
+    }
+
+    /**
+     *
+     * @return Current state and counters of the pool
+     */
+    public PoolStats stats() {
+        return pool.stats();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.UseProperClassLoader")
+    public Connection getConnection() throws SQLException {
+        return (Connection) Proxy.newProxyInstance(
+                PoolDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PooledConnection(pool, pool.borrow())
+        );
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("A pool has the credentials of its origin DataSource");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter out) {
+        // no logging
+    }
+
+    @Override
+    public void setLoginTimeout(final int seconds) {
+        // the connection timeout of the pool is used
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (!iface.isInstance(this)) {
+            throw new SQLException("Not a wrapper of " + iface);
+        }
+
+        return iface.cast(this);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * Closes the idle connections, connections in use are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    private static int checkedSizes(final int minSize, final int maxSize) {
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool sizes: min " + minSize + ", max " + maxSize);
+        }
+
+        return minSize;
+    }
+
+    private static long checkedPositive(final Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive: " + duration);
+        }
+
+        return duration.toNanos();
+    }
+}
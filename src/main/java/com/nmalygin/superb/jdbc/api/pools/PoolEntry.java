@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.pools;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A physical connection of a pool with its state. Only the borrower that moved the entry from idle to in use works
+ * with the connection.
+ */
+final class PoolEntry {
+
+    private static final int AVAILABLE = 0;
+    private static final int IN_USE = 1;
+    private static final int REMOVED = -1;
+    private static final int VALID_SECONDS = 1;
+
+    private final Connection physical;
+    private final SessionSettings original;
+    private final long created;
+    private final AtomicInteger state;
+    private final AtomicLong released;
+
+    PoolEntry(final Connection physical, final SessionSettings original, final long created) {
+        this.physical = physical;
+        this.original = original;
+        this.created = created;
+        this.state = new AtomicInteger(IN_USE);
+        this.released = new AtomicLong(created);
+    }
+
+    Connection connection() {
+        return physical;
+    }
+
+    boolean reserve() {
+        return state.compareAndSet(AVAILABLE, IN_USE);
+    }
+
+    boolean retire() {
+        return state.compareAndSet(AVAILABLE, REMOVED);
+    }
+
+    void remove() {
+        state.set(REMOVED);
+    }
+
+    void release(final long now) {
+        released.set(now);
+        state.set(AVAILABLE);
+    }
+
+    boolean idle() {
+        return state.get() == AVAILABLE;
+    }
+
+    boolean expired(final long now, final long maxLifetime) {
+        return now - created >= maxLifetime;
+    }
+
+    boolean stale(final long now, final long maxLifetime, final long idleTimeout, final boolean aboveMinSize) {
+        return now - created >= maxLifetime || aboveMinSize && now - released.get() >= idleTimeout;
+    }
+
+    /**
+     * Checks a connection that has stayed idle for longer than the threshold, a connection used just now is trusted.
+     *
+     * @return Whether the connection is alive
+     */
+    boolean alive(final long now, final long threshold) {
+        boolean alive;
+        try {
+            alive = now - released.get() < threshold || physical.isValid(VALID_SECONDS);
+        } catch (SQLException e) {
+            alive = false;
+        }
+
+        return alive;
+    }
+
+    /**
+     * Reverts the settings the borrower has changed to the ones the connection was created with.
+     *
+     * @param settings Settings recorded by the borrower
+     * @return Whether the connection can be used by the next borrower
+     */
+    boolean restored(final SessionSettings settings) {
+        boolean restored = true;
+        try {
+            settings.revert(physical, original);
+        } catch (SQLException e) {
+            restored = false;
+        }
+
+        return restored;
+    }
+}
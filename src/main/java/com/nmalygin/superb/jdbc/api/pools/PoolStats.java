@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.pools;
+
+/**
+ * A snapshot of the state and the counters of a {@link PoolDataSource}.
+ *
+ * @author Nikolai Malygin
+ */
+public final class PoolStats {
+
+    private final int totalCount;
+    private final int idleCount;
+    private final int waitingCount;
+    private final long borrowedCount;
+    private final long createdCount;
+    private final long timedOutCount;
+
+    /**
+     *
+     * @param total number of the physical connections
+     * @param idle number of the idle physical connections
+     * @param waiting number of the threads waiting for a connection
+     * @param borrowed number of the borrowed connections since the start
+     * @param created number of the created physical connections since the start
+     * @param timedOut number of the timed out borrows since the start
+     */
+    public PoolStats(final int total, final int idle, final int waiting,
+                     final long borrowed, final long created, final long timedOut) {
+        this.totalCount = total;
+        this.idleCount = idle;
+        this.waitingCount = waiting;
+        this.borrowedCount = borrowed;
+        this.createdCount = created;
+        this.timedOutCount = timedOut;
+    }
+
+    /**
+     *
+     * @return Number of the physical connections
+     */
+    public int total() {
+        return totalCount;
+    }
+
+    /**
+     *
+     * @return Number of the idle physical connections
+     */
+    public int idle() {
+        return idleCount;
+    }
+
+    /**
+     *
+     * @return Number of the physical connections in use, approximately
+     */
+    public int active() {
+        return Math.max(0, totalCount - idleCount);
+    }
+
+    /**
+     *
+     * @return Number of the threads waiting for a connection
+     */
+    public int waiting() {
+        return waitingCount;
+    }
+
+    /**
+     *
+     * @return Number of the borrowed connections since the start
+     */
+    public long borrowed() {
+        return borrowedCount;
+    }
+
+    /**
+     *
+     * @return Number of the created physical connections since the start
+     */
+    public long created() {
+        return createdCount;
+    }
+
+    /**
+     *
+     * @return Number of the timed out borrows since the start
+     */
+    public long timedOut() {
+        return timedOutCount;
+    }
+}
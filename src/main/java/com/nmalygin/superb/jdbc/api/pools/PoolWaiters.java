@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.pools;
+
+import java.sql.SQLException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The borrowers waiting for a connection in the order of their arrival. Every waiter has a turn that a returned entry
+ * is handed to directly, so the oldest waiter gets the next returned connection.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class PoolWaiters {
+
+    private final Queue<CompletableFuture<PoolEntry>> turns;
+    private final AtomicInteger count;
+    private final AtomicBoolean closed;
+
+    PoolWaiters(final AtomicBoolean closed) {
+        this.turns = new ConcurrentLinkedQueue<>();
+        this.count = new AtomicInteger();
+        this.closed = closed;
+    }
+
+    int size() {
+        return count.get();
+    }
+
+    /**
+     * @return The turn of a new waiter at the end of the queue
+     */
+    CompletableFuture<PoolEntry> enqueue() {
+        final CompletableFuture<PoolEntry> turn = new CompletableFuture<>();
+        count.incrementAndGet();
+        turns.add(turn);
+
+        return turn;
+    }
+
+    /**
+     * @return Whether the waiter of the turn scans the idle entries: it is the oldest one, or the pool is closed and
+     * every waiter fails on its scan
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    boolean scanning(final CompletableFuture<PoolEntry> turn) {
+        return turns.peek() == turn || closed.get();
+    }
+
+    /**
+     * @return The entry handed to the turn, null if none is handed within the time
+     */
+    PoolEntry received(final CompletableFuture<PoolEntry> turn, final long nanos) throws SQLException {
+        try {
+            turn.get(nanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ignored) {
+            // nothing handed within the time
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A turn is never completed exceptionally", e);
+        }
+
+        return turn.getNow(null);
+    }
+
+    /**
+     * Closes the turn of a waiter that got an entry, has timed out or has failed. An entry handed to the turn at the
+     * same time has to be returned to the pool.
+     *
+     * @param taken entry the waiter has got, null if none
+     * @return The entry handed to the turn if it is not the taken one, null otherwise
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    PoolEntry leave(final CompletableFuture<PoolEntry> turn, final PoolEntry taken) {
+        turn.complete(null);
+        turns.remove(turn);
+        count.decrementAndGet();
+        final PoolEntry handed = turn.join();
+
+        return handed == taken ? null : handed;
+    }
+
+    /**
+     * Hands the entry to the oldest waiter.
+     *
+     * @return Whether a waiter has taken the entry
+     */
+    boolean handedOff(final PoolEntry entry) {
+        final CompletableFuture<PoolEntry> turn = turns.poll();
+
+        return turn != null && (turn.complete(entry) || handedOff(entry));
+    }
+}
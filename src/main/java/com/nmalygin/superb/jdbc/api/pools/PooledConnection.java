@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.pools;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The handler of a dynamic proxy of {@link java.sql.Connection} given to a borrower. Closing the proxy returns the
+ * physical connection to the pool, the proxy can not be used after that. The session settings set by the borrower are
+ * recorded, so a clean connection is returned without any round trips. A connection that has been aborted or has
+ * failed with a connection exception (SQLState class 08) is closed instead of being returned.
+ */
+final class PooledConnection implements InvocationHandler {
+
+    private static final Set<String> RESETTING = new HashSet<>(
+            Arrays.asList("setAutoCommit", "setTransactionIsolation", "setReadOnly")
+    );
+
+    private final ConnectionPool pool;
+    private final PoolEntry entry;
+    private final AtomicBoolean closed;
+    private final AtomicBoolean broken;
+    private final AtomicReference<SessionSettings> settings;
+
+    PooledConnection(final ConnectionPool pool, final PoolEntry entry) {
+        this.pool = pool;
+        this.entry = entry;
+        this.closed = new AtomicBoolean();
+        this.broken = new AtomicBoolean();
+        this.settings = new AtomicReference<>(new SessionSettings());
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        final Object result;
+        switch (method.getName()) {
+            case "close":
+                if (closed.compareAndSet(false, true)) {
+                    pool.requite(entry, settings.get(), broken.get());
+                }
+                result = null;
+                break;
+            case "abort":
+                if (closed.compareAndSet(false, true)) {
+                    try {
+                        entry.connection().abort((Executor) args[0]);
+                    } finally {
+                        pool.requite(entry, settings.get(), true);
+                    }
+                }
+                result = null;
+                break;
+            case "isClosed":
+                result = closed.get();
+                break;
+            case "equals":
+                result = identical(proxy, args[0]);
+                break;
+            case "hashCode":
+                result = System.identityHashCode(proxy);
+                break;
+            case "toString":
+                result = "Pooled " + entry.connection();
+                break;
+            default:
+                result = delegated(method, args);
+        }
+
+        return result;
+    }
+
+    private Object delegated(final Method method, final Object... args) throws Throwable {
+        if (closed.get()) {
+            throw new SQLException("The connection is closed");
+        }
+        if (RESETTING.contains(method.getName())) {
+            settings.set(settings.get().changed(method.getName(), args[0]));
+        }
+        try {
+            return method.invoke(entry.connection(), args);
+        } catch (InvocationTargetException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof SQLException && String.valueOf(((SQLException) cause).getSQLState()).startsWith("08")) {
+                broken.set(true);
+            }
+            throw cause;
+        }
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private static boolean identical(final Object proxy, final Object other) {
+        return proxy == other;
+    }
+}
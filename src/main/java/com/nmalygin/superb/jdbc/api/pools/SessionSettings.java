@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.pools;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Auto-commit, isolation level and read-only mode of a connection. The settings recorded by a borrower have
+ * {@code null} for what the borrower has not set.
+ */
+final class SessionSettings {
+
+    private final Boolean autoCommit;
+    private final Integer isolation;
+    private final Boolean readOnly;
+
+    SessionSettings() {
+        this(null, null, null);
+    }
+
+    SessionSettings(final Boolean autoCommit, final Integer isolation, final Boolean readOnly) {
+        this.autoCommit = autoCommit;
+        this.isolation = isolation;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Reads the settings of a new connection, the connection is closed if they can not be read.
+     */
+    static SessionSettings current(final Connection physical) throws SQLException {
+        try {
+            return new SessionSettings(
+                    physical.getAutoCommit(), physical.getTransactionIsolation(), physical.isReadOnly()
+            );
+        } catch (SQLException e) {
+            try {
+                physical.close();
+            } catch (SQLException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return The settings with the value set by the given method of a connection
+     */
+    SessionSettings changed(final String method, final Object value) {
+        final SessionSettings changed;
+        switch (method) {
+            case "setAutoCommit":
+                changed = new SessionSettings((Boolean) value, isolation, readOnly);
+                break;
+            case "setTransactionIsolation":
+                changed = new SessionSettings(autoCommit, (Integer) value, readOnly);
+                break;
+            case "setReadOnly":
+                changed = new SessionSettings(autoCommit, isolation, (Boolean) value);
+                break;
+            default:
+                changed = this;
+        }
+
+        return changed;
+    }
+
+    /**
+     * Rolls back a transaction the borrower may have left open and reverts only the settings that differ from the
+     * original ones, a borrower that has changed nothing costs no round trips.
+     */
+    void revert(final Connection physical, final SessionSettings original) throws SQLException {
+        if (!(autoCommit == null ? original.autoCommit : autoCommit)) {
+            physical.rollback();
+        }
+        if (autoCommit != null && !autoCommit.equals(original.autoCommit)) {
+            physical.setAutoCommit(original.autoCommit);
+        }
+        if (isolation != null && !isolation.equals(original.isolation)) {
+            physical.setTransactionIsolation(original.isolation);
+        }
+        if (readOnly != null && !readOnly.equals(original.readOnly)) {
+            physical.setReadOnly(original.readOnly);
+        }
+    }
+}
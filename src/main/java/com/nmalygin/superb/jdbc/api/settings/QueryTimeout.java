@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.api.settings;
+
+import com.nmalygin.superb.jdbc.api.Setting;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The number of seconds the driver will wait for a statement to execute
+ *
+ * @author Nikolai Malygin
+ */
+public final class QueryTimeout implements Setting {
+
+    private final int seconds;
+
+    /**
+     *
+     * @param seconds timeout in seconds, 0 means no limit
+     */
+    public QueryTimeout(final int seconds) {
+        this.seconds = seconds;
+    }
+
+    @Override
+    public void applyTo(final Statement statement) throws SQLException {
+        statement.setQueryTimeout(seconds);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded LRU cache of the idle prepared statements of a connection keyed by SQL. A checked out statement is removed
+ * from the cache, so the same SQL executed while its statement is in use (e.g. by an open cursor) gets a new
+ * statement. A checked in statement is reset to the JDBC defaults of the settings, and the least recently used
+ * statement is closed when the cache is full. Not thread-safe, as the connection itself.
+ */
+@SuppressWarnings("PMD.CloseResource")
+final class CachedStatements implements Statements {
+
+    private final Connection connection;
+    private final Map<String, PreparedStatement> idle;
+    private final int capacity;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    CachedStatements(final Connection connection, final Map<String, PreparedStatement> idle, final int capacity,
+                     final LongAdder hits, final LongAdder misses) {
+        this.connection = connection;
+        this.idle = idle;
+        this.capacity = capacity;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    CachedStatements(final Connection connection, final int capacity, final LongAdder hits, final LongAdder misses) {
+        this(connection, new LinkedHashMap<>(), capacity, hits, misses);
+    }
+
+    CachedStatements(final Connection connection, final int capacity) {
+        this(connection, capacity, new LongAdder(), new LongAdder());
+    }
+
+    @Override
+    public PreparedStatement checkOut(final String sql) throws SQLException {
+        PreparedStatement cached = idle.remove(sql);
+        if (cached == null) {
+            misses.increment();
+            cached = connection.prepareStatement(sql);
+        } else {
+            hits.increment();
+        }
+
+        return cached;
+    }
+
+    @Override
+    public void checkIn(final String sql, final PreparedStatement preparedStatement) throws SQLException {
+        try {
+            preparedStatement.clearParameters();
+            preparedStatement.clearBatch();
+            preparedStatement.setMaxRows(0);
+            preparedStatement.setFetchSize(0);
+            preparedStatement.setQueryTimeout(0);
+        } catch (SQLException e) {
+            preparedStatement.close();
+            throw e;
+        }
+        final PreparedStatement replaced = idle.put(sql, preparedStatement);
+        if (replaced != null) {
+            replaced.close();
+        }
+        if (idle.size() > capacity) {
+            final Iterator<PreparedStatement> eldest = idle.values().iterator();
+            final PreparedStatement evicted = eldest.next();
+            eldest.remove();
+            evicted.close();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            for (final PreparedStatement preparedStatement : idle.values()) {
+                preparedStatement.close();
+            }
+        } finally {
+            idle.clear();
+        }
+    }
+}
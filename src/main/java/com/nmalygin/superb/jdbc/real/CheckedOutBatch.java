@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.Batch;
+import com.nmalygin.superb.jdbc.api.Setting;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A batch over a checked out statement, the statement is checked in instead of being closed.
+ */
+final class CheckedOutBatch implements Batch {
+
+    private final Statements statements;
+    private final String sql;
+    private final PreparedStatement preparedStatement;
+    private final Batch origin;
+
+    CheckedOutBatch(final Statements statements,
+                    final String sql,
+                    final PreparedStatement preparedStatement,
+                    final Batch origin) {
+        this.statements = statements;
+        this.sql = sql;
+        this.preparedStatement = preparedStatement;
+        this.origin = origin;
+    }
+
+    CheckedOutBatch(final Statements statements,
+                    final String sql,
+                    final PreparedStatement preparedStatement,
+                    final Setting defaults) {
+        this(statements, sql, preparedStatement, new ClosingPreparedStatementBatch(preparedStatement, defaults));
+    }
+
+    CheckedOutBatch(final Statements statements, final String sql, final Setting defaults) throws SQLException {
+        this(statements, sql, statements.checkOut(sql), defaults);
+    }
+
+    @Override
+    public Batch with(final Setting... settings) {
+        origin.with(settings);
+        return this;
+    }
+
+    @Override
+    public void put(final Argument... arguments) throws SQLException {
+        origin.put(arguments);
+    }
+
+    @Override
+    public void apply() throws SQLException {
+        origin.apply();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        statements.checkIn(sql, preparedStatement);
+    }
+}
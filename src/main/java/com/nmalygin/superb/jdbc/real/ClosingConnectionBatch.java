@@ -26,37 +26,41 @@ package com.nmalygin.superb.jdbc.real;
 
 import com.nmalygin.superb.jdbc.api.Batch;
 import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.Setting;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 final class ClosingConnectionBatch implements Batch {
 
-    private final PreparedStatement preparedStatement;
+    private final Connection connection;
+    private final Batch origin;
 
-    ClosingConnectionBatch(final PreparedStatement preparedStatement) {
-        this.preparedStatement = preparedStatement;
+    ClosingConnectionBatch(final Connection connection, final Batch origin) {
+        this.connection = connection;
+        this.origin = origin;
+    }
+
+    @Override
+    public Batch with(final Setting... settings) {
+        origin.with(settings);
+        return this;
     }
 
     @Override
     public void put(final Argument... arguments) throws SQLException {
-        int index = 1;
-        for (final Argument argument : arguments) {
-            argument.pass(preparedStatement, index++);
-        }
-        preparedStatement.addBatch();
+        origin.put(arguments);
     }
 
     @Override
     public void apply() throws SQLException {
-        preparedStatement.executeBatch();
+        origin.apply();
     }
 
     @Override
     public void close() throws SQLException {
-        try (Connection ignored = preparedStatement.getConnection()) {
-            preparedStatement.close();
+        try (Connection ignored = connection) {
+            origin.close();
         }
     }
 }
@@ -26,6 +26,8 @@ package com.nmalygin.superb.jdbc.real;
 
 import com.nmalygin.superb.jdbc.api.Batch;
 import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.Setting;
+import com.nmalygin.superb.jdbc.api.settings.DriverDefaults;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -33,9 +35,25 @@ import java.sql.SQLException;
 final class ClosingPreparedStatementBatch implements Batch {
 
     private final PreparedStatement preparedStatement;
+    private final StatementSettings settings;
 
-    ClosingPreparedStatementBatch(final PreparedStatement preparedStatement) {
+    ClosingPreparedStatementBatch(final PreparedStatement preparedStatement, final StatementSettings settings) {
         this.preparedStatement = preparedStatement;
+        this.settings = settings;
+    }
+
+    ClosingPreparedStatementBatch(final PreparedStatement preparedStatement, final Setting defaults) {
+        this(preparedStatement, new NotThreadSafeSettings(defaults));
+    }
+
+    ClosingPreparedStatementBatch(final PreparedStatement preparedStatement) {
+        this(preparedStatement, new DriverDefaults());
+    }
+
+    @Override
+    public Batch with(final Setting... settings) {
+        this.settings.add(settings);
+        return this;
     }
 
     @Override
@@ -49,6 +67,7 @@ final class ClosingPreparedStatementBatch implements Batch {
 
     @Override
     public void apply() throws SQLException {
+        settings.applyTo(preparedStatement);
         preparedStatement.executeBatch();
     }
 
@@ -26,6 +26,8 @@ package com.nmalygin.superb.jdbc.real;
 
 import com.nmalygin.superb.jdbc.api.Change;
 import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.Setting;
+import com.nmalygin.superb.jdbc.api.settings.DriverDefaults;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -33,24 +35,52 @@ import java.sql.SQLException;
 
 final class ConnectionChange implements Change {
 
-    private final Connection connection;
+    private final Statements statements;
+    private final StatementSettings settings;
     private final Sql sql;
 
-    ConnectionChange(final Connection connection, final Sql sql) {
-        this.connection = connection;
+    ConnectionChange(final Statements statements, final StatementSettings settings, final Sql sql) {
+        this.statements = statements;
+        this.settings = settings;
         this.sql = sql;
     }
 
+    ConnectionChange(final Connection connection, final StatementSettings settings, final Sql sql) {
+        this(new PreparingStatements(connection), settings, sql);
+    }
+
+    ConnectionChange(final Statements statements, final Setting defaults,
+                     final String sql, final Argument... withArguments) {
+        this(statements, new NotThreadSafeSettings(defaults), new NotThreadSafeSql(sql, withArguments));
+    }
+
+    ConnectionChange(final Connection connection, final Setting defaults,
+                     final String sql, final Argument... withArguments) {
+        this(connection, new NotThreadSafeSettings(defaults), new NotThreadSafeSql(sql, withArguments));
+    }
+
     ConnectionChange(final Connection connection, final String sql, final Argument... withArguments) {
-        this(connection, new NotThreadSafeSql(sql, withArguments));
+        this(connection, new DriverDefaults(), sql, withArguments);
+    }
+
+    @Override
+    public Change with(final Setting... settings) {
+        this.settings.add(settings);
+        return this;
     }
 
     @Override
+    @SuppressWarnings("PMD.CloseResource")
     public void apply() throws SQLException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql.parameterizedSql())) {
+        final String parameterizedSql = sql.parameterizedSql();
+        final PreparedStatement preparedStatement = statements.checkOut(parameterizedSql);
+        try {
+            settings.applyTo(preparedStatement);
             sql.fill(preparedStatement);
 
             preparedStatement.executeUpdate();
+        } finally {
+            statements.checkIn(parameterizedSql, preparedStatement);
         }
     }
 }
@@ -25,8 +25,12 @@
 package com.nmalygin.superb.jdbc.real;
 
 import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.Cursor;
 import com.nmalygin.superb.jdbc.api.Query;
 import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+import com.nmalygin.superb.jdbc.api.Setting;
+import com.nmalygin.superb.jdbc.api.handlers.columns.Column;
+import com.nmalygin.superb.jdbc.api.settings.DriverDefaults;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -34,31 +38,75 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 final class ConnectionQuery implements Query {
-    private final Connection connection;
-    private final Sql sql;
+    private final Statements statements;
+    private final StatementSettings settings;
+    private Sql sql;
 
-    ConnectionQuery(final Connection connection, final Sql sql) {
-        this.connection = connection;
+    ConnectionQuery(final Statements statements, final StatementSettings settings, final Sql sql) {
+        this.statements = statements;
+        this.settings = settings;
         this.sql = sql;
     }
 
+    ConnectionQuery(final Connection connection, final StatementSettings settings, final Sql sql) {
+        this(new PreparingStatements(connection), settings, sql);
+    }
+
+    ConnectionQuery(final Statements statements, final Setting defaults,
+                    final String sqlFragment, final Argument... withArguments) {
+        this(statements, new NotThreadSafeSettings(defaults), new NotThreadSafeSql(sqlFragment, withArguments));
+    }
+
+    ConnectionQuery(final Connection connection, final Setting defaults,
+                    final String sqlFragment, final Argument... withArguments) {
+        this(connection, new NotThreadSafeSettings(defaults), new NotThreadSafeSql(sqlFragment, withArguments));
+    }
+
     ConnectionQuery(final Connection connection, final String sqlFragment, final Argument... withArguments) {
-        this(connection, new NotThreadSafeSql(sqlFragment, withArguments));
+        this(connection, new DriverDefaults(), sqlFragment, withArguments);
     }
 
     @Override
     public Query append(final String sqlFragment, final Argument... withArguments) {
-        sql.append(sqlFragment, withArguments);
+        sql = sql.append(sqlFragment, withArguments);
+        return this;
+    }
+
+    @Override
+    public Query with(final Setting... settings) {
+        this.settings.add(settings);
         return this;
     }
 
     @Override
     public <R> R executeWith(final ResultSetHandler<R> resultSetHandler) throws SQLException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql.parameterizedSql())) {
+        final String parameterizedSql = sql.parameterizedSql();
+        final PreparedStatement preparedStatement = statements.checkOut(parameterizedSql);
+        try {
+            settings.applyTo(preparedStatement);
+            resultSetHandler.setting().applyTo(preparedStatement);
             sql.fill(preparedStatement);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 return resultSetHandler.handle(resultSet);
             }
+        } finally {
+            statements.checkIn(parameterizedSql, preparedStatement);
+        }
+    }
+
+    @Override
+    public <T> Cursor<T> cursor(final Column<T> column) throws SQLException {
+        final PreparedStatement preparedStatement = statements.checkOut(sql.parameterizedSql());
+        try {
+            settings.applyTo(preparedStatement);
+            sql.fill(preparedStatement);
+
+            final ResultSet resultSet = preparedStatement.executeQuery();
+
+            return new ClosingStatementCursor<>(preparedStatement, resultSet, column.boundTo(resultSet));
+        } catch (Throwable t) {
+            preparedStatement.close();
+            throw t;
         }
     }
 }
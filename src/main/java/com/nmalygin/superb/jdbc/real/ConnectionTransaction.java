@@ -25,48 +25,83 @@
 package com.nmalygin.superb.jdbc.real;
 
 import com.nmalygin.superb.jdbc.api.*;
+import com.nmalygin.superb.jdbc.api.settings.DriverDefaults;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 final class ConnectionTransaction implements Transaction {
 
+    private static final int CACHED_STATEMENTS = 32;
+
     private final Connection connection;
+    private final Setting defaults;
     private final Map<String, Savepoint> savePoints;
-
-    ConnectionTransaction(final Connection connection, final Map<String, Savepoint> savePoints) {
+    private final Statements statements;
+    private final SessionState state;
+    private final AtomicBoolean pending;
+
+    ConnectionTransaction(final Connection connection,
+                          final Setting defaults,
+                          final Map<String, Savepoint> savePoints,
+                          final Statements statements,
+                          final SessionState state,
+                          final AtomicBoolean pending) {
         this.connection = connection;
+        this.defaults = defaults;
         this.savePoints = savePoints;
+        this.statements = statements;
+        this.state = state;
+        this.pending = pending;
+    }
+
+    ConnectionTransaction(final Connection connection, final Setting defaults, final SessionState state,
+                          final AtomicBoolean pending) {
+        this(
+                connection,
+                defaults,
+                new HashMap<>(),
+                new PendingStatements(new CachedStatements(connection, CACHED_STATEMENTS), pending),
+                state,
+                pending
+        );
+    }
+
+    ConnectionTransaction(final Connection connection, final Setting defaults, final SessionState state) {
+        this(connection, defaults, state, new AtomicBoolean());
+    }
+
+    ConnectionTransaction(final Connection connection, final Setting defaults) {
+        this(connection, defaults, new SessionState(connection));
     }
 
     ConnectionTransaction(final Connection connection) {
-        this(connection, new HashMap<>());
+        this(connection, new DriverDefaults());
     }
 
     @Override
     public Query query(final String sql, final Argument... withArguments) {
-        return new ConnectionQuery(connection, sql, withArguments);
+        return new ConnectionQuery(statements, defaults, sql, withArguments);
     }
 
     @Override
     public Change change(final String sql, final Argument... withArguments) {
-        return new ConnectionChange(connection, sql, withArguments);
+        return new ConnectionChange(statements, defaults, sql, withArguments);
     }
 
     @Override
     public Batch batch(final String sql) throws SQLException {
-        final PreparedStatement preparedStatement = connection.prepareStatement(sql);
-
-        return new ClosingPreparedStatementBatch(preparedStatement);
+        return new CheckedOutBatch(statements, sql, defaults);
     }
 
     @Override
     public void commit() throws SQLException {
         connection.commit();
+        pending.set(false);
     }
 
     @Override
@@ -76,11 +111,13 @@ final class ConnectionTransaction implements Transaction {
         }
 
         savePoints.put(name, connection.setSavepoint(name));
+        pending.set(true);
     }
 
     @Override
     public void rollback() throws SQLException {
         connection.rollback();
+        pending.set(false);
     }
 
     @Override
@@ -95,7 +132,13 @@ final class ConnectionTransaction implements Transaction {
     @Override
     public void close() throws SQLException {
         if (connection != null) {
-            connection.close();
+            try (Connection ignored = connection) {
+                try {
+                    statements.close();
+                } finally {
+                    state.restore(pending.get());
+                }
+            }
         }
     }
 }
@@ -26,33 +26,57 @@ package com.nmalygin.superb.jdbc.real;
 
 import com.nmalygin.superb.jdbc.api.Change;
 import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.Setting;
+import com.nmalygin.superb.jdbc.api.settings.DriverDefaults;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 final class DataSourceChange implements Change {
 
     private final DataSource dataSource;
+    private final ConnectionStatements statements;
+    private final StatementSettings settings;
     private final Sql sql;
 
-    DataSourceChange(final DataSource dataSource, final Sql sql) {
+    DataSourceChange(final DataSource dataSource, final ConnectionStatements statements,
+                     final StatementSettings settings, final Sql sql) {
         this.dataSource = dataSource;
+        this.statements = statements;
+        this.settings = settings;
         this.sql = sql;
     }
 
+    DataSourceChange(final DataSource dataSource, final StatementSettings settings, final Sql sql) {
+        this(dataSource, PreparingStatements::new, settings, sql);
+    }
+
+    DataSourceChange(final DataSource dataSource, final ConnectionStatements statements, final Setting defaults,
+                     final String sql, final Argument... withArguments) {
+        this(dataSource, statements, new NotThreadSafeSettings(defaults), new NotThreadSafeSql(sql, withArguments));
+    }
+
+    DataSourceChange(final DataSource dataSource, final Setting defaults,
+                     final String sql, final Argument... withArguments) {
+        this(dataSource, new NotThreadSafeSettings(defaults), new NotThreadSafeSql(sql, withArguments));
+    }
+
     DataSourceChange(final DataSource dataSource, final String sql, final Argument... withArguments) {
-        this(dataSource, new NotThreadSafeSql(sql, withArguments));
+        this(dataSource, new DriverDefaults(), sql, withArguments);
     }
 
     @Override
-    public void apply() throws SQLException {
-        try (Connection connection = dataSource.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(sql.parameterizedSql())) {
-            sql.fill(preparedStatement);
+    public Change with(final Setting... settings) {
+        this.settings.add(settings);
+
+        return this;
+    }
 
-            preparedStatement.executeUpdate();
+    @Override
+    public void apply() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            new ConnectionChange(statements.statements(connection), settings, sql).apply();
         }
     }
 }
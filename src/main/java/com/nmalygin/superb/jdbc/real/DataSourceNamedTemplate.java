@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.Change;
+import com.nmalygin.superb.jdbc.api.NamedTemplate;
+import com.nmalygin.superb.jdbc.api.Query;
+import com.nmalygin.superb.jdbc.api.Setting;
+import com.nmalygin.superb.jdbc.api.arguments.Named;
+
+import javax.sql.DataSource;
+
+final class DataSourceNamedTemplate implements NamedTemplate {
+
+    private final DataSource dataSource;
+    private final ConnectionStatements statements;
+    private final Setting defaults;
+    private final NamedSql sql;
+
+    DataSourceNamedTemplate(final DataSource dataSource, final ConnectionStatements statements,
+                            final Setting defaults, final NamedSql sql) {
+        this.dataSource = dataSource;
+        this.statements = statements;
+        this.defaults = defaults;
+        this.sql = sql;
+    }
+
+    @Override
+    public Query query(final Named... arguments) {
+        return new DataSourceQuery(
+                dataSource,
+                statements,
+                new NotThreadSafeSettings(defaults),
+                new ImmutableSql(sql.parameterizedSql(), sql.arguments(arguments))
+        );
+    }
+
+    @Override
+    public Change change(final Named... arguments) {
+        return new DataSourceChange(
+                dataSource,
+                statements,
+                new NotThreadSafeSettings(defaults),
+                new ImmutableSql(sql.parameterizedSql(), sql.arguments(arguments))
+        );
+    }
+
+    @Override
+    public Argument[] positional(final Named... arguments) {
+        return sql.arguments(arguments);
+    }
+
+    @Override
+    public String parameterizedSql() {
+        return sql.parameterizedSql();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.PartitionedQuery;
+import com.nmalygin.superb.jdbc.api.Partitions;
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+import com.nmalygin.superb.jdbc.api.Setting;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+final class DataSourcePartitionedQuery implements PartitionedQuery {
+
+    private final DataSource dataSource;
+    private final ConnectionStatements statements;
+    private final StatementSettings settings;
+    private final Partitions partitions;
+    private final String sql;
+    private final Argument[] arguments;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    DataSourcePartitionedQuery(final DataSource dataSource, final ConnectionStatements statements,
+                               final StatementSettings settings, final Partitions partitions,
+                               final String sql, final Argument... arguments) {
+        this.dataSource = dataSource;
+        this.statements = statements;
+        this.settings = settings;
+        this.partitions = partitions;
+        this.sql = sql;
+        this.arguments = arguments;
+    }
+
+    DataSourcePartitionedQuery(final DataSource dataSource, final ConnectionStatements statements,
+                               final Setting defaults, final Partitions partitions,
+                               final String sql, final Argument... arguments) {
+        this(dataSource, statements, new NotThreadSafeSettings(defaults), partitions, sql, arguments);
+    }
+
+    DataSourcePartitionedQuery(final DataSource dataSource, final Setting defaults,
+                               final Partitions partitions, final String sql, final Argument... arguments) {
+        this(dataSource, PreparingStatements::new, defaults, partitions, sql, arguments);
+    }
+
+    @Override
+    public PartitionedQuery with(final Setting... settings) {
+        this.settings.add(settings);
+
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    public <R> R executeWith(final Supplier<? extends ResultSetHandler<R>> resultSetHandlers,
+                             final BinaryOperator<R> combiner,
+                             final Executor executor) throws SQLException {
+        final List<Argument[]> ranges = partitions.ranges();
+        if (ranges.isEmpty()) {
+            throw new SQLException("The partitions have no ranges, there is no result to return");
+        }
+        final List<CompletableFuture<R>> results = new ArrayList<>(ranges.size());
+        for (final Argument[] range : ranges) {
+            final Argument[] withRange = new Argument[arguments.length + range.length];
+            System.arraycopy(arguments, 0, withRange, 0, arguments.length);
+            System.arraycopy(range, 0, withRange, arguments.length, range.length);
+            results.add(
+                    new DataSourceQuery(dataSource, statements, settings, new NotThreadSafeSql(sql, withRange))
+                            .executeWithAsync(resultSetHandlers.get(), executor)
+            );
+        }
+
+        for (final CompletableFuture<R> result : results) {
+            result.whenComplete((value, failure) -> cancelOnFailure(results, failure));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).exceptionally(failure -> null).join();
+        rethrowFailure(results);
+
+        R result = results.get(0).join();
+        for (int i = 1; i < results.size(); i++) {
+            result = combiner.apply(result, results.get(i).join());
+        }
+
+        return result;
+    }
+
+    private static void cancelOnFailure(final List<? extends CompletableFuture<?>> results, final Throwable failure) {
+        if (failure != null) {
+            for (final CompletableFuture<?> result : results) {
+                result.cancel(false);
+            }
+        }
+    }
+
+    private static void rethrowFailure(final List<? extends CompletableFuture<?>> results) throws SQLException {
+        Throwable first = null;
+        for (final CompletableFuture<?> result : results) {
+            final Throwable failure = result.handle((value, thrown) -> thrown).join();
+            final boolean failed = failure != null && !(failure instanceof CancellationException);
+            if (failed && first == null) {
+                first = failure;
+            } else if (failed) {
+                first.addSuppressed(failure);
+            }
+        }
+        if (first instanceof SQLException) {
+            throw (SQLException) first;
+        }
+        if (first != null) {
+            throw new CompletionException(first);
+        }
+    }
+}
@@ -25,44 +25,80 @@
 package com.nmalygin.superb.jdbc.real;
 
 import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.Cursor;
 import com.nmalygin.superb.jdbc.api.Query;
 import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+import com.nmalygin.superb.jdbc.api.Setting;
+import com.nmalygin.superb.jdbc.api.handlers.columns.Column;
+import com.nmalygin.superb.jdbc.api.settings.DriverDefaults;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
 final class DataSourceQuery implements Query {
 
     private final DataSource dataSource;
-    private final Sql sql;
+    private final ConnectionStatements statements;
+    private final StatementSettings settings;
+    private Sql sql;
 
-    DataSourceQuery(final DataSource dataSource, final Sql sql) {
+    DataSourceQuery(final DataSource dataSource, final ConnectionStatements statements,
+                    final StatementSettings settings, final Sql sql) {
         this.dataSource = dataSource;
+        this.statements = statements;
+        this.settings = settings;
         this.sql = sql;
     }
 
+    DataSourceQuery(final DataSource dataSource, final StatementSettings settings, final Sql sql) {
+        this(dataSource, PreparingStatements::new, settings, sql);
+    }
+
+    DataSourceQuery(final DataSource dataSource, final ConnectionStatements statements, final Setting defaults,
+                    final String sqlFragment, final Argument... withArguments) {
+        this(dataSource, statements, new NotThreadSafeSettings(defaults),
+                new NotThreadSafeSql(sqlFragment, withArguments));
+    }
+
+    DataSourceQuery(final DataSource dataSource, final Setting defaults,
+                    final String sqlFragment, final Argument... withArguments) {
+        this(dataSource, new NotThreadSafeSettings(defaults), new NotThreadSafeSql(sqlFragment, withArguments));
+    }
+
     DataSourceQuery(final DataSource dataSource, final String sqlFragment, final Argument... withArguments) {
-        this(dataSource, new NotThreadSafeSql(sqlFragment, withArguments));
+        this(dataSource, new DriverDefaults(), sqlFragment, withArguments);
     }
 
     @Override
     public Query append(final String sqlFragment, final Argument... withArguments) {
-        sql.append(sqlFragment, withArguments);
+        sql = sql.append(sqlFragment, withArguments);
+
+        return this;
+    }
+
+    @Override
+    public Query with(final Setting... settings) {
+        this.settings.add(settings);
 
         return this;
     }
 
     @Override
     public <R> R executeWith(final ResultSetHandler<R> resultSetHandler) throws SQLException {
-        try (Connection connection = dataSource.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(sql.parameterizedSql())) {
-            sql.fill(preparedStatement);
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                return resultSetHandler.handle(resultSet);
-            }
+        try (Connection connection = dataSource.getConnection()) {
+            return new ConnectionQuery(statements.statements(connection), settings, sql).executeWith(resultSetHandler);
+        }
+    }
+
+    @Override
+    public <T> Cursor<T> cursor(final Column<T> column) throws SQLException {
+        final Connection connection = dataSource.getConnection();
+        try {
+            return new ClosingConnectionCursor<>(connection, new ConnectionQuery(statements.statements(connection), settings, sql).cursor(column));
+        } catch (Throwable t) {
+            connection.close();
+            throw t;
         }
     }
 }
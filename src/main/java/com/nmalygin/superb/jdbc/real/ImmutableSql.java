@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The SQL of a template bound to its arguments. Appending a fragment gives a mutable copy, the template SQL itself is
+ * shared and never changes.
+ */
+final class ImmutableSql implements Sql {
+
+    private final String sql;
+    private final Argument[] arguments;
+
+    @SuppressWarnings({"PMD.UseVarargs", "PMD.ArrayIsStoredDirectly"})
+    ImmutableSql(final String sql, final Argument[] arguments) {
+        this.sql = sql;
+        this.arguments = arguments;
+    }
+
+    @Override
+    public Sql append(final String sqlFragment, final Argument... withArguments) {
+        final List<Argument> appended = new ArrayList<>(arguments.length + withArguments.length);
+        appended.addAll(Arrays.asList(arguments));
+        appended.addAll(Arrays.asList(withArguments));
+
+        return new NotThreadSafeSql(new StringBuilder(sql).append(sqlFragment), appended);
+    }
+
+    @Override
+    public String parameterizedSql() {
+        return sql;
+    }
+
+    @Override
+    public void fill(final PreparedStatement preparedStatement) throws SQLException {
+        for (int index = 0; index < arguments.length; index++) {
+            arguments[index].pass(preparedStatement, index + 1);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import com.nmalygin.superb.jdbc.api.Argument;
+import com.nmalygin.superb.jdbc.api.arguments.Named;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class NamedSql {
+
+    private final String sql;
+    private final Map<String, int[]> positions;
+    private final int count;
+
+    /**
+     * @param sql SQL with ? placeholders
+     * @param names Name of every placeholder in the order of the placeholders
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    NamedSql(final String sql, final List<String> names) {
+        this.sql = sql;
+        this.count = names.size();
+        this.positions = new HashMap<>();
+        for (int index = 0; index < count; index++) {
+            final int[] indexes = positions.getOrDefault(names.get(index), new int[0]);
+            final int[] appended = Arrays.copyOf(indexes, indexes.length + 1);
+            appended[indexes.length] = index;
+            positions.put(names.get(index), appended);
+        }
+    }
+
+    String parameterizedSql() {
+        return sql;
+    }
+
+    Argument[] arguments(final Named... named) {
+        final Argument[] arguments = new Argument[count];
+        int bound = 0;
+        for (final Named argument : named) {
+            final int[] indexes = positions.get(argument.name());
+            if (indexes == null) {
+                throw new IllegalArgumentException("Unknown parameter :" + argument.name() + " of " + sql);
+            }
+            for (final int index : indexes) {
+                bound += arguments[index] == null ? 1 : 0;
+                arguments[index] = argument.argument();
+            }
+        }
+        if (bound != count) {
+            throw new IllegalArgumentException(
+                    "Arguments for " + bound + " of " + count + " parameters of " + sql
+            );
+        }
+
+        return arguments;
+    }
+}
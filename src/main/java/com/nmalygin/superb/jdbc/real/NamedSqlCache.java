@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class NamedSqlCache {
+
+    private final Map<String, NamedSql> parsed;
+    private final int capacity;
+
+    NamedSqlCache(final Map<String, NamedSql> parsed, final int capacity) {
+        this.parsed = parsed;
+        this.capacity = capacity;
+    }
+
+    NamedSqlCache(final int capacity) {
+        this(new ConcurrentHashMap<>(), capacity);
+    }
+
+    /**
+     * Parses the SQL or takes the parsed SQL from the cache. When the cache is full, new SQL is parsed without
+     * caching, so the SQL of the hot statements (the first ones) stays cached.
+     */
+    NamedSql named(final String sql) {
+        NamedSql named = parsed.get(sql);
+        if (named == null) {
+            named = new Placeholders(sql).named();
+            if (parsed.size() < capacity) {
+                parsed.putIfAbsent(sql, named);
+            }
+        }
+
+        return named;
+    }
+}
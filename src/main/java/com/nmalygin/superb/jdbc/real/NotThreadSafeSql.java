@@ -48,9 +48,11 @@ final class NotThreadSafeSql implements Sql {
     }
 
     @Override
-    public void append(final String sqlFragment, final Argument... withArguments) {
+    public Sql append(final String sqlFragment, final Argument... withArguments) {
         stringBuilder.append(sqlFragment);
         arguments.addAll(Arrays.asList(withArguments));
+
+        return this;
     }
 
     @Override
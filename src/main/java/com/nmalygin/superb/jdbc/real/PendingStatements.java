@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Statements of a transaction that mark the transaction as having pending work whenever a statement is checked out, so
+ * a transaction that ends with a commit or a rollback is not rolled back again.
+ */
+final class PendingStatements implements Statements {
+
+    private final Statements origin;
+    private final AtomicBoolean pending;
+
+    PendingStatements(final Statements origin, final AtomicBoolean pending) {
+        this.origin = origin;
+        this.pending = pending;
+    }
+
+    @Override
+    public PreparedStatement checkOut(final String sql) throws SQLException {
+        pending.set(true);
+        return origin.checkOut(sql);
+    }
+
+    @Override
+    public void checkIn(final String sql, final PreparedStatement preparedStatement) throws SQLException {
+        origin.checkIn(sql, preparedStatement);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        origin.close();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class Placeholders {
+
+    private static final char PLACEHOLDER = '?';
+    private static final char COLON = ':';
+    private static final String LINE_COMMENT = "--";
+    private static final String BLOCK_COMMENT = "/*";
+    private static final String BLOCK_END = "*/";
+    private static final String LINE_END = "\n";
+
+    private final String sql;
+
+    Placeholders(final String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * Counts the ? placeholders outside of quoted literals, quoted identifiers and comments.
+     *
+     * @return Number of the placeholders
+     */
+    int count() {
+        int count = 0;
+        int index = 0;
+        while (index < sql.length()) {
+            final int skipped = skipped(index);
+            if (skipped == index) {
+                count += sql.charAt(index) == PLACEHOLDER ? 1 : 0;
+                index++;
+            } else {
+                index = skipped;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Replaces the :name parameters outside of quoted literals, quoted identifiers and comments with ? placeholders. A
+     * :: cast is kept as is, a ? placeholder is not allowed in SQL with names.
+     *
+     * @return Parameterized SQL with the positions of every name
+     */
+    NamedSql named() {
+        final StringBuilder parameterized = new StringBuilder(sql.length());
+        final List<String> names = new ArrayList<>();
+        int index = 0;
+        while (index < sql.length()) {
+            final char character = sql.charAt(index);
+            int end = skipped(index);
+            if (end > index) {
+                parameterized.append(sql, index, end);
+            } else if (character == COLON) {
+                end = parameter(index, parameterized, names);
+            } else if (character == PLACEHOLDER) {
+                throw new IllegalArgumentException("Positional parameter at " + index + " of " + sql);
+            } else {
+                parameterized.append(character);
+                end++;
+            }
+            index = end;
+        }
+
+        return new NamedSql(parameterized.toString(), names);
+    }
+
+    /**
+     * @return Index after the quoted literal, the quoted identifier or the -- and /* comment starting at the index,
+     * the index itself if none starts there
+     */
+    private int skipped(final int index) {
+        final char character = sql.charAt(index);
+        int end = index;
+        if (character == '\'' || character == '"') {
+            end = after(String.valueOf(character), index + 1);
+        } else if (sql.startsWith(LINE_COMMENT, index)) {
+            end = after(LINE_END, index + LINE_COMMENT.length());
+        } else if (sql.startsWith(BLOCK_COMMENT, index)) {
+            end = after(BLOCK_END, index + BLOCK_COMMENT.length());
+        }
+
+        return end;
+    }
+
+    /**
+     * @return Index after the terminator, the end of the SQL if it is not terminated
+     */
+    private int after(final String terminator, final int from) {
+        final int found = sql.indexOf(terminator, from);
+
+        return found < 0 ? sql.length() : found + terminator.length();
+    }
+
+    /**
+     * Appends a ? placeholder for the name starting at the colon, or the colon itself.
+     *
+     * @return Index after the name, the :: cast or the colon
+     */
+    private int parameter(final int colon, final StringBuilder parameterized, final List<String> names) {
+        final int start = colon + 1;
+        int end = start;
+        if (start < sql.length() && sql.charAt(start) == COLON) {
+            end++;
+            parameterized.append(sql, colon, end);
+        } else if (start < sql.length() && (Character.isLetter(sql.charAt(start)) || sql.charAt(start) == '_')) {
+            while (end < sql.length() && (Character.isLetterOrDigit(sql.charAt(end)) || sql.charAt(end) == '_')) {
+                end++;
+            }
+            names.add(sql.substring(start, end));
+            parameterized.append(PLACEHOLDER);
+        } else {
+            parameterized.append(COLON);
+        }
+
+        return end;
+    }
+}
@@ -25,6 +25,7 @@
 package com.nmalygin.superb.jdbc.real;
 
 import com.nmalygin.superb.jdbc.api.*;
+import com.nmalygin.superb.jdbc.api.settings.DriverDefaults;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -35,34 +36,80 @@ import java.sql.SQLException;
  *
  * @author Nikolai Malygin
  */
-public final class RealRdbms implements Rdbms {
+public final class RealRdbms implements Rdbms, PartitionedQueries, Templates, NamedTemplates {
+
+    private static final int CACHED_SQL = 256;
 
     private final DataSource dataSource;
+    private final Setting defaults;
+    private final StatementCache statements;
+    private final NamedSqlCache namedSql;
 
     /**
      *
      * @param dataSource DataSource
+     * @param defaults Settings applied to every statement before the settings of a specific query, change or batch
+     * @param statements Cache of the statements of queries and changes
      */
-    public RealRdbms(final DataSource dataSource) {
+    public RealRdbms(final DataSource dataSource, final Setting defaults, final StatementCache statements) {
         this.dataSource = dataSource;
+        this.defaults = defaults;
+        this.statements = statements;
+        this.namedSql = new NamedSqlCache(CACHED_SQL);
+    }
+
+    /**
+     *
+     * @param dataSource DataSource
+     * @param defaults Settings applied to every statement before the settings of a specific query, change or batch
+     */
+    public RealRdbms(final DataSource dataSource, final Setting defaults) {
+        this(dataSource, defaults, new StatementCache(0));
+    }
+
+    /**
+     *
+     * @param dataSource DataSource
+     */
+    public RealRdbms(final DataSource dataSource) {
+        this(dataSource, new DriverDefaults());
     }
 
     @Override
     public Query query(final String sql, final Argument... withArguments) {
-        return new DataSourceQuery(dataSource, sql, withArguments);
+        return new DataSourceQuery(dataSource, statements, defaults, sql, withArguments);
+    }
+
+    @Override
+    public PartitionedQuery partitionedQuery(final Partitions partitions,
+                                             final String sql,
+                                             final Argument... withArguments) {
+        return new DataSourcePartitionedQuery(dataSource, statements, defaults, partitions, sql, withArguments);
+    }
+
+    @Override
+    public Template template(final String sql) {
+        return new DataSourceTemplate(dataSource, statements, defaults, sql);
+    }
+
+    @Override
+    public NamedTemplate namedTemplate(final String sql) {
+        return new DataSourceNamedTemplate(dataSource, statements, defaults, namedSql.named(sql));
     }
 
     @Override
     public Change change(final String sql, final Argument... withArguments) {
-        return new DataSourceChange(dataSource, sql, withArguments);
+        return new DataSourceChange(dataSource, statements, defaults, sql, withArguments);
     }
 
     @Override
-    @SuppressWarnings("PMD.CloseResource")
     public Batch batch(final String sql) throws SQLException {
         final Connection connection = dataSource.getConnection();
         try {
-            return new ClosingConnectionBatch(connection.prepareStatement(sql));
+            return new ClosingConnectionBatch(
+                    connection,
+                    new ClosingPreparedStatementBatch(connection.prepareStatement(sql), defaults)
+            );
         } catch (Throwable t) {
             connection.close();
             throw t;
@@ -72,35 +119,28 @@ public final class RealRdbms implements Rdbms {
     @Override
     public Transaction transaction() throws SQLException {
         final Connection connection = dataSource.getConnection();
-
+        final SessionState state;
         try {
-            connection.setAutoCommit(false);
+            state = new SessionState(connection).begun();
         } catch (Throwable t) {
             connection.close();
             throw t;
         }
 
-        return new ConnectionTransaction(connection);
+        return new ConnectionTransaction(connection, defaults, state);
     }
 
     @Override
     public Transaction transaction(final IsolationLevel isolationLevel) throws SQLException {
         final Connection connection = dataSource.getConnection();
-
-        try {
-            connection.setAutoCommit(false);
-        } catch (Throwable t) {
-            connection.close();
-            throw t;
-        }
-
+        final SessionState state;
         try {
-            isolationLevel.applyTo(connection);
+            state = new SessionState(connection).isolated(isolationLevel).begun();
         } catch (Throwable t) {
             connection.close();
             throw t;
         }
 
-        return new ConnectionTransaction(connection);
+        return new ConnectionTransaction(connection, defaults, state);
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import com.nmalygin.superb.jdbc.api.IsolationLevel;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * The auto-commit mode and the isolation level a connection had before a transaction. Only the state that differs is
+ * changed when the transaction begins, and only the changed state is restored when it ends, so no round trips are made
+ * for a connection that is already in the required state. The isolation level of the connection is read once when
+ * the transaction begins, it is both compared with the required level and restored when the transaction ends.
+ */
+final class SessionState {
+
+    private static final int UNCHANGED = Connection.TRANSACTION_NONE;
+
+    private final Connection connection;
+    private final boolean autoCommit;
+    private final int isolation;
+
+    /**
+     * @param autoCommit whether auto-commit has to be enabled again
+     * @param isolation isolation level to restore, {@link Connection#TRANSACTION_NONE} if unchanged
+     */
+    SessionState(final Connection connection, final boolean autoCommit, final int isolation) {
+        this.connection = connection;
+        this.autoCommit = autoCommit;
+        this.isolation = isolation;
+    }
+
+    SessionState(final Connection connection) {
+        this(connection, false, UNCHANGED);
+    }
+
+    /**
+     * Applies the isolation level unless the connection already has it.
+     *
+     * @return State with the isolation level to restore
+     */
+    SessionState isolated(final IsolationLevel isolationLevel) throws SQLException {
+        final int current = connection.getTransactionIsolation();
+        final boolean changed = isolationLevel.level() == UNCHANGED || isolationLevel.level() != current;
+        if (changed) {
+            isolationLevel.applyTo(connection);
+        }
+
+        return new SessionState(connection, autoCommit, changed ? current : isolation);
+    }
+
+    /**
+     * Disables auto-commit unless it is already disabled.
+     *
+     * @return State with the auto-commit mode to restore
+     */
+    SessionState begun() throws SQLException {
+        final boolean enabled = connection.getAutoCommit();
+        if (enabled) {
+            connection.setAutoCommit(false);
+        }
+
+        return new SessionState(connection, enabled, isolation);
+    }
+
+    /**
+     * Restores the changed state. Pending work is rolled back first, because enabling auto-commit commits it. The
+     * isolation level is restored even if that fails.
+     *
+     * @param pending whether there may be work after the last commit or rollback
+     */
+    void restore(final boolean pending) throws SQLException {
+        try {
+            if (autoCommit) {
+                if (pending) {
+                    connection.rollback();
+                }
+                connection.setAutoCommit(true);
+            }
+        } finally {
+            if (isolation != UNCHANGED) {
+                connection.setTransactionIsolation(isolation);
+            }
+        }
+    }
+}
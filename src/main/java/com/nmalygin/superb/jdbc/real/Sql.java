@@ -31,7 +31,10 @@ import java.sql.SQLException;
 
 @SuppressWarnings("PMD.ShortClassName")
 interface Sql {
-    void append(String sqlFragment, Argument... withArguments);
+    /**
+     * @return SQL with the fragment appended, a mutable SQL appends the fragment to itself
+     */
+    Sql append(String sqlFragment, Argument... withArguments);
     String parameterizedSql();
     void fill(PreparedStatement preparedStatement) throws SQLException;
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A cache of the prepared statements of the queries and changes of a {@link RealRdbms} for pools that do not cache
+ * statements themselves. Statements are prepared on the physical connection ({@code unwrap(Connection.class)}) and
+ * cached per physical connection and SQL, so a statement survives returning the connection to the pool and is reused
+ * by the next borrower of the same physical connection. Every physical connection keeps its own LRU of idle
+ * statements. The cache references every physical connection it has seen until that connection is closed: the
+ * entries of closed connections, whose statements the driver has closed with them, are purged whenever a new physical
+ * connection appears, as a pool replaces the connections it closes.
+ *
+ * @author Nikolai Malygin
+ */
+public final class StatementCache implements ConnectionStatements {
+
+    private final Map<Connection, Statements> connections;
+    private final Lock lock;
+    private final int capacity;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
+    /**
+     *
+     * @param capacity maximum number of idle statements of a physical connection, 0 disables the cache
+     */
+    public StatementCache(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        this.connections = new IdentityHashMap<>();
+        this.lock = new ReentrantLock();
+        this.capacity = capacity;
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+    }
+
+    /**
+     *
+     * @return Number of executions with a cached statement
+     */
+    public long hits() {
+        return hitCount.sum();
+    }
+
+    /**
+     *
+     * @return Number of executions that prepared a statement
+     */
+    public long misses() {
+        return missCount.sum();
+    }
+
+    @Override
+    public Statements statements(final Connection connection) throws SQLException {
+        final Statements statements;
+        if (capacity == 0) {
+            statements = new PreparingStatements(connection);
+        } else {
+            final Connection physical = connection.isWrapperFor(Connection.class)
+                    ? connection.unwrap(Connection.class)
+                    : connection;
+            statements = cached(physical);
+        }
+
+        return statements;
+    }
+
+    private Statements cached(final Connection physical) {
+        lock.lock();
+        try {
+            Statements statements = connections.get(physical);
+            if (statements == null) {
+                connections.keySet().removeIf(StatementCache::closed);
+                statements = new CachedStatements(physical, capacity, hitCount, missCount);
+                connections.put(physical, statements);
+            }
+
+            return statements;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean closed(final Connection connection) {
+        boolean closed;
+        try {
+            closed = connection.isClosed();
+        } catch (SQLException e) {
+            closed = true;
+        }
+
+        return closed;
+    }
+}
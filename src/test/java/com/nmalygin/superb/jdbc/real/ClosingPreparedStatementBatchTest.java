@@ -25,7 +25,12 @@
 package com.nmalygin.superb.jdbc.real;
 
 import com.nmalygin.superb.jdbc.api.Batch;
+import com.nmalygin.superb.jdbc.api.arguments.ByteBufferArgument;
+import com.nmalygin.superb.jdbc.api.arguments.ByteSliceArgument;
+import com.nmalygin.superb.jdbc.api.arguments.IntArgument;
 import com.nmalygin.superb.jdbc.api.arguments.ObjectArgument;
+import com.nmalygin.superb.jdbc.api.handlers.ColumnToListRsh;
+import com.nmalygin.superb.jdbc.api.handlers.columns.BytesColumn;
 import com.nmalygin.superb.jdbc.api.arguments.StringArgument;
 import com.nmalygin.superb.jdbc.real.testdb.Book;
 import com.nmalygin.superb.jdbc.real.testdb.LibraryDB;
@@ -34,6 +39,8 @@ import com.nmalygin.superb.jdbc.real.testdb.H2DataSource;
 import org.junit.jupiter.api.Test;
 
 import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
@@ -60,4 +67,32 @@ class ClosingPreparedStatementBatchTest {
         final List<Book> books = new DataSourceBooksTable(dataSource).books();
         assertEquals(3, books.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void zeroCopyBytes() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new DataSourceChange(dataSource, "CREATE TABLE blobs (id INT, b VARBINARY(100))").apply();
+        final byte[] array = "0123456789".getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(16);
+        direct.put(array).flip().position(5);
+
+        try (Connection connection = dataSource.getConnection();
+             Batch batch = new ClosingPreparedStatementBatch(
+                     connection.prepareStatement("INSERT INTO blobs (id, b) VALUES (?, ?)"))) {
+            batch.put(new IntArgument(1), new ByteSliceArgument(array));
+            batch.put(new IntArgument(2), new ByteSliceArgument(array, 2, 3));
+            batch.put(new IntArgument(3), new ByteBufferArgument(ByteBuffer.wrap(array, 7, 3)));
+            batch.put(new IntArgument(4), new ByteBufferArgument(direct));
+            batch.apply();
+        }
+
+        final List<byte[]> values = new DataSourceQuery(dataSource, "SELECT b FROM blobs ORDER BY id")
+                .executeWith(new ColumnToListRsh<>(new BytesColumn("b")));
+        assertEquals("0123456789", new String(values.get(0), StandardCharsets.US_ASCII));
+        assertEquals("234", new String(values.get(1), StandardCharsets.US_ASCII));
+        assertEquals("789", new String(values.get(2), StandardCharsets.US_ASCII));
+        assertEquals("56789", new String(values.get(3), StandardCharsets.US_ASCII));
+        assertEquals(5, direct.position());
+        assertThrows(IllegalArgumentException.class, () -> new ByteSliceArgument(array, 8, 3));
+    }
+}
@@ -24,6 +24,7 @@
 
 package com.nmalygin.superb.jdbc.real;
 
+import com.nmalygin.superb.jdbc.api.Cursor;
 import com.nmalygin.superb.jdbc.api.handlers.columns.StringColumn;
 import com.nmalygin.superb.jdbc.real.testdb.H2DataSource;
 import com.nmalygin.superb.jdbc.api.handlers.ColumnToListRsh;
@@ -58,4 +59,22 @@ class ConnectionQueryTest {
             assertTrue(titles.contains(title));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void cursorKeepsConnectionOpen() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+        final BooksTable booksTable = new DataSourceBooksTable(dataSource);
+        booksTable.insert(UUID.randomUUID(), "Clean Code");
+
+        try (Connection connection = dataSource.getConnection()) {
+            try (Cursor<String> titles = new ConnectionQuery(connection, "SELECT title FROM books")
+                    .cursor(new StringColumn("title"))) {
+                assertTrue(titles.next());
+                assertEquals("Clean Code", titles.value());
+            }
+
+            assertFalse(connection.isClosed());
+        }
+    }
+}
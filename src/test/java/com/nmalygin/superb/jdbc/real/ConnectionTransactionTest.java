@@ -25,13 +25,23 @@
 package com.nmalygin.superb.jdbc.real;
 
 import com.nmalygin.superb.jdbc.api.Transaction;
+import com.nmalygin.superb.jdbc.api.arguments.LongArgument;
+import com.nmalygin.superb.jdbc.api.handlers.ColumnToListRsh;
+import com.nmalygin.superb.jdbc.api.handlers.FirstRowRsh;
+import com.nmalygin.superb.jdbc.api.handlers.columns.LongColumn;
+import com.nmalygin.superb.jdbc.api.isolation.ReadCommitted;
+import com.nmalygin.superb.jdbc.api.settings.DriverDefaults;
 import com.nmalygin.superb.jdbc.real.testdb.*;
 import org.junit.jupiter.api.Test;
 
 import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -155,4 +165,67 @@ class ConnectionTransactionTest {
             assertThrows(IllegalArgumentException.class, () -> transaction.setSavepoint("sp"));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void reusedStatements() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+
+        try (Connection connection = dataSource.getConnection();
+             Transaction transaction = new ConnectionTransaction(connection)) {
+            final String sql = "SELECT X AS n FROM SYSTEM_RANGE(1, ?)";
+            for (long n = 1; n <= 3; n++) {
+                assertEquals(1L, transaction.query(sql, new LongArgument(n))
+                        .executeWith(new FirstRowRsh<>(new LongColumn("n"))));
+            }
+            assertEquals(Arrays.asList(1L, 2L, 3L), transaction.query(sql, new LongArgument(3))
+                    .executeWith(new ColumnToListRsh<>(new LongColumn("n"))));
+        }
+    }
+
+    @Test
+    void noRollbackAfterCommit() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+        final List<String> calls = new CopyOnWriteArrayList<>();
+
+        try (Connection physical = dataSource.getConnection()) {
+            final Connection connection = (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        calls.add(method.getName());
+                        return method.invoke(physical, args);
+                    }
+            );
+            final SessionState state = new SessionState(connection).isolated(new ReadCommitted()).begun();
+            try (Transaction transaction = new ConnectionTransaction(connection, new DriverDefaults(), state)) {
+                transaction.change("INSERT INTO books (id, title) VALUES ('" + UUID.randomUUID() + "', 'Refactoring')")
+                        .apply();
+                transaction.commit();
+            }
+
+            assertFalse(calls.contains("rollback"));
+            assertTrue(calls.subList(calls.indexOf("commit"), calls.size()).contains("setAutoCommit"));
+        }
+        assertEquals(1, new DataSourceBooksTable(dataSource).books().size());
+    }
+
+    @Test
+    void cachedStatements() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+
+        try (Connection connection = dataSource.getConnection();
+             Statements statements = new CachedStatements(connection, 1)) {
+            final PreparedStatement first = statements.checkOut("SELECT 1");
+            statements.checkIn("SELECT 1", first);
+            assertSame(first, statements.checkOut("SELECT 1"));
+            assertNotSame(first, statements.checkOut("SELECT 1"));
+            statements.checkIn("SELECT 1", first);
+            final PreparedStatement second = statements.checkOut("SELECT 2");
+            statements.checkIn("SELECT 2", second);
+            assertTrue(first.isClosed());
+            statements.close();
+            assertTrue(second.isClosed());
+        }
+    }
+}
@@ -24,6 +24,7 @@
 
 package com.nmalygin.superb.jdbc.real;
 
+import com.nmalygin.superb.jdbc.api.executors.ThreadPerTaskExecutor;
 import com.nmalygin.superb.jdbc.real.testdb.H2DataSource;
 import com.nmalygin.superb.jdbc.api.arguments.ObjectArgument;
 import com.nmalygin.superb.jdbc.api.arguments.StringArgument;
@@ -37,6 +38,8 @@ import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -76,4 +79,31 @@ class DataSourceChangeTest {
         assertEquals(id, books.get(0).id());
         assertEquals(title, books.get(0).title());
     }
-}
\ No newline at end of file
+
+    @Test
+    void asyncInserts() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+        final ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor();
+
+        CompletableFuture.allOf(
+                new DataSourceChange(dataSource, "INSERT INTO books (id, title) VALUES (?, ?)",
+                        new ObjectArgument(UUID.randomUUID()), new StringArgument("Clean Code"))
+                        .applyAsync(executor),
+                new DataSourceChange(dataSource, "INSERT INTO books (id, title) VALUES (?, ?)",
+                        new ObjectArgument(UUID.randomUUID()), new StringArgument("Code Complete"))
+                        .applyAsync(executor)
+        ).join();
+
+        assertEquals(2, new DataSourceBooksTable(dataSource).books().size());
+    }
+
+    @Test
+    void failedAsyncChange() {
+        final CompletableFuture<Void> future = new DataSourceChange(new H2DataSource(), "DELETE FROM missing")
+                .applyAsync(Runnable::run);
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(SQLException.class, exception.getCause());
+    }
+}
@@ -24,21 +24,107 @@
 
 package com.nmalygin.superb.jdbc.real;
 
+import com.nmalygin.superb.jdbc.api.Cursor;
+import com.nmalygin.superb.jdbc.api.ResultSetHandler;
+import com.nmalygin.superb.jdbc.api.Setting;
+import com.nmalygin.superb.jdbc.api.executors.ThreadPerTaskExecutor;
+import com.nmalygin.superb.jdbc.api.flow.Publisher;
+import com.nmalygin.superb.jdbc.api.Partitions;
+import com.nmalygin.superb.jdbc.api.partitions.LongPartitions;
+import com.nmalygin.superb.jdbc.api.partitions.TimestampPartitions;
+import com.nmalygin.superb.jdbc.api.handlers.AggregatesRsh;
+import com.nmalygin.superb.jdbc.api.handlers.ColumnarRsh;
+import com.nmalygin.superb.jdbc.api.handlers.FirstRowRsh;
+import com.nmalygin.superb.jdbc.api.handlers.SingleRowRsh;
+import com.nmalygin.superb.jdbc.api.handlers.DoubleColumnToArrayRsh;
+import com.nmalygin.superb.jdbc.api.handlers.IntColumnToArrayRsh;
+import com.nmalygin.superb.jdbc.api.handlers.IntKeyMapRsh;
+import com.nmalygin.superb.jdbc.api.handlers.LongColumnToArrayRsh;
+import com.nmalygin.superb.jdbc.api.handlers.LongKeyMapRsh;
+import com.nmalygin.superb.jdbc.api.handlers.aggregates.Count;
+import com.nmalygin.superb.jdbc.api.handlers.aggregates.DistinctCount;
+import com.nmalygin.superb.jdbc.api.handlers.aggregates.DoubleMinMax;
+import com.nmalygin.superb.jdbc.api.handlers.aggregates.DoubleSum;
+import com.nmalygin.superb.jdbc.api.handlers.aggregates.Histogram;
+import com.nmalygin.superb.jdbc.api.handlers.aggregates.LongMinMax;
+import com.nmalygin.superb.jdbc.api.handlers.aggregates.LongSum;
+import com.nmalygin.superb.jdbc.api.handlers.binary.BinaryRow;
+import com.nmalygin.superb.jdbc.api.handlers.binary.ChannelRsh;
+import com.nmalygin.superb.jdbc.api.handlers.binary.DoubleField;
+import com.nmalygin.superb.jdbc.api.handlers.binary.LongField;
+import com.nmalygin.superb.jdbc.api.handlers.binary.OffHeapRows;
+import com.nmalygin.superb.jdbc.api.handlers.binary.OffHeapRsh;
+import com.nmalygin.superb.jdbc.api.handlers.binary.SpilledRows;
+import com.nmalygin.superb.jdbc.api.handlers.binary.SpillingRsh;
+import com.nmalygin.superb.jdbc.api.handlers.binary.StringField;
+import com.nmalygin.superb.jdbc.api.handlers.channels.GzipChannel;
+import com.nmalygin.superb.jdbc.api.handlers.csv.CsvRsh;
+import com.nmalygin.superb.jdbc.api.handlers.columns.BlobColumn;
+import com.nmalygin.superb.jdbc.api.handlers.columns.BytesColumn;
+import com.nmalygin.superb.jdbc.api.handlers.columns.ClobColumn;
+import com.nmalygin.superb.jdbc.api.handlers.columns.DoubleColumn;
+import com.nmalygin.superb.jdbc.api.handlers.columns.IntColumn;
+import com.nmalygin.superb.jdbc.api.handlers.columns.LongColumn;
+import com.nmalygin.superb.jdbc.api.handlers.columns.RowColumn;
 import com.nmalygin.superb.jdbc.api.handlers.columns.StringColumn;
+import com.nmalygin.superb.jdbc.api.handlers.maps.IntKeyMap;
+import com.nmalygin.superb.jdbc.api.handlers.maps.LongKeyMap;
+import com.nmalygin.superb.jdbc.api.handlers.vectors.DictionaryVector;
+import com.nmalygin.superb.jdbc.api.handlers.vectors.DoubleVector;
+import com.nmalygin.superb.jdbc.api.handlers.vectors.IntVector;
+import com.nmalygin.superb.jdbc.api.handlers.vectors.LongVector;
+import com.nmalygin.superb.jdbc.api.settings.MaxRows;
 import com.nmalygin.superb.jdbc.real.testdb.H2DataSource;
+import com.nmalygin.superb.jdbc.real.testdb.RecordingSubscriber;
 import com.nmalygin.superb.jdbc.api.handlers.ColumnToListRsh;
+import com.nmalygin.superb.jdbc.api.arguments.BinaryStreamArgument;
+import com.nmalygin.superb.jdbc.api.arguments.ChannelArgument;
+import com.nmalygin.superb.jdbc.api.arguments.CharacterStreamArgument;
+import com.nmalygin.superb.jdbc.api.arguments.IntArgument;
 import com.nmalygin.superb.jdbc.api.arguments.StringArgument;
 import com.nmalygin.superb.jdbc.real.testdb.LibraryDB;
 import com.nmalygin.superb.jdbc.real.testdb.BooksTable;
 import com.nmalygin.superb.jdbc.real.testdb.DataSourceBooksTable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class DataSourceQueryTest {
@@ -92,4 +178,763 @@ final class DataSourceQueryTest {
         assertEquals(2, titles.size());
         assertEquals("Clean Code", titles.get(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    void cursor() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+        final BooksTable booksTable = new DataSourceBooksTable(dataSource);
+        booksTable.insert(UUID.randomUUID(), "Clean Code");
+        booksTable.insert(UUID.randomUUID(), "Code Complete");
+
+        try (Cursor<String> titles = new DataSourceQuery(dataSource, "SELECT title FROM books ORDER BY title")
+                .cursor(new StringColumn("title"))) {
+            assertTrue(titles.next());
+            assertEquals("Clean Code", titles.value());
+            assertTrue(titles.next());
+            assertEquals("Code Complete", titles.value());
+            assertFalse(titles.next());
+        }
+    }
+
+    @Test
+    void closedCursor() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+        final BooksTable booksTable = new DataSourceBooksTable(dataSource);
+        booksTable.insert(UUID.randomUUID(), "Clean Code");
+        booksTable.insert(UUID.randomUUID(), "Code Complete");
+
+        final Cursor<String> titles = new DataSourceQuery(dataSource, "SELECT title FROM books")
+                .cursor(new StringColumn("title"));
+        assertTrue(titles.next());
+        titles.close();
+
+        assertThrows(SQLException.class, titles::next);
+    }
+
+    @Test
+    void laterSettingOverridesEarlier() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+        final BooksTable booksTable = new DataSourceBooksTable(dataSource);
+        booksTable.insert(UUID.randomUUID(), "Clean Code");
+        booksTable.insert(UUID.randomUUID(), "Code Complete");
+        booksTable.insert(UUID.randomUUID(), "Effective Java");
+
+        final List<String> titles = new DataSourceQuery(dataSource, new MaxRows(1), "SELECT title FROM books")
+                .with(new MaxRows(2))
+                .executeWith(new ColumnToListRsh<>(new StringColumn("title")));
+
+        assertEquals(2, titles.size());
+    }
+
+    @Test
+    void primitiveColumnsToArrays() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        final String sql = "SELECT X AS n FROM SYSTEM_RANGE(1, 100)";
+
+        final long[] longs = new DataSourceQuery(dataSource, sql)
+                .executeWith(new LongColumnToArrayRsh(new LongColumn("n"), 3));
+        final int[] ints = new DataSourceQuery(dataSource, sql)
+                .executeWith(new IntColumnToArrayRsh(new IntColumn("n"), 100));
+        final double[] doubles = new DataSourceQuery(dataSource, sql)
+                .executeWith(new DoubleColumnToArrayRsh(new DoubleColumn("n")));
+
+        assertEquals(100, longs.length);
+        assertEquals(100L, longs[99]);
+        assertEquals(100, ints.length);
+        assertEquals(1, ints[0]);
+        assertEquals(100, doubles.length);
+        assertEquals(50.0, doubles[49]);
+    }
+
+    @Test
+    void nullCellsOfBoxedPrimitiveColumns() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        final String sql = "SELECT CAST(NULLIF(X, 2) AS INT) AS n FROM SYSTEM_RANGE(1, 2) ORDER BY X";
+
+        final List<Long> longs = new DataSourceQuery(dataSource, sql)
+                .executeWith(new ColumnToListRsh<>(new LongColumn("n")));
+        final List<Integer> ints = new DataSourceQuery(dataSource, sql)
+                .executeWith(new ColumnToListRsh<>(new IntColumn("n")));
+        final List<Double> doubles = new DataSourceQuery(dataSource, sql)
+                .executeWith(new ColumnToListRsh<>(new DoubleColumn("n")));
+
+        assertEquals(Arrays.asList(1L, null), longs);
+        assertEquals(Arrays.asList(1, null), ints);
+        assertEquals(Arrays.asList(1.0, null), doubles);
+    }
+
+    @Test
+    void emptyArray() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+
+        final long[] longs = new DataSourceQuery(dataSource, "SELECT 1 AS n FROM books")
+                .executeWith(new LongColumnToArrayRsh(new LongColumn("n")));
+
+        assertArrayEquals(new long[0], longs);
+    }
+
+    @Test
+    void unknownColumnOfEmptyResultSet() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+
+        final DataSourceQuery query = new DataSourceQuery(dataSource, "SELECT title FROM books");
+
+        assertThrows(SQLException.class, () -> query.executeWith(new ColumnToListRsh<>(new StringColumn("name"))));
+    }
+
+    @Test
+    void rowColumnWithPrimitives() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        final IntColumn number = new IntColumn("n");
+        final LongColumn square = new LongColumn("s");
+
+        try (Cursor<Long> products = new DataSourceQuery(dataSource, "SELECT X AS n, X * X AS s FROM SYSTEM_RANGE(1, 3)")
+                .cursor(new RowColumn<>(row -> row.intValue(number) * row.longValue(square), number, square))) {
+            assertTrue(products.next());
+            assertEquals(1L, products.value());
+            assertTrue(products.next());
+            assertEquals(8L, products.value());
+        }
+    }
+
+    @Test
+    void rowColumnWithForeignColumn() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        final IntColumn number = new IntColumn("n");
+
+        final DataSourceQuery query = new DataSourceQuery(dataSource, "SELECT X AS n FROM SYSTEM_RANGE(1, 3)");
+
+        assertThrows(IllegalArgumentException.class, () -> query.executeWith(new ColumnToListRsh<>(
+                new RowColumn<>(row -> row.intValue(new IntColumn("n")), number)
+        )));
+    }
+
+    @Test
+    void columnar() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        final LongVector numbers = new LongVector(new LongColumn("n"));
+        final DictionaryVector keys = new DictionaryVector(new StringColumn("k"));
+
+        final long rows = new DataSourceQuery(dataSource,
+                "SELECT X AS n, CONCAT('k', MOD(X, 2)) AS k FROM SYSTEM_RANGE(1, 5)")
+                .executeWith(new ColumnarRsh(numbers, keys));
+
+        assertEquals(5, rows);
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5}, numbers.values());
+        assertArrayEquals(new int[]{0, 1, 0, 1, 0}, keys.codes());
+        assertEquals(Arrays.asList("k1", "k0"), keys.dictionary());
+    }
+
+    @Test
+    void columnarNulls() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        final LongVector longs = new LongVector(new LongColumn("n"), 2);
+        final IntVector ints = new IntVector(new IntColumn("n"));
+        final DoubleVector doubles = new DoubleVector(new DoubleColumn("n"));
+        final List<BitSet> chunks = new ArrayList<>();
+
+        new DataSourceQuery(dataSource, "SELECT CAST(NULLIF(MOD(X, 3), 0) AS INT) AS n FROM SYSTEM_RANGE(1, 6)")
+                .executeWith(new ColumnarRsh(2, size -> chunks.add(longs.nulls()), longs, ints, doubles));
+
+        assertEquals(Arrays.asList(new BitSet(), BitSet.valueOf(new long[]{1}), BitSet.valueOf(new long[]{2})), chunks);
+        assertEquals(0L, longs.value(1));
+        assertTrue(longs.isNull(1));
+        assertFalse(ints.isNull(0));
+        assertTrue(doubles.isNull(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ints.isNull(2));
+    }
+
+    @Test
+    void columnarChunks() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        final LongVector numbers = new LongVector(new LongColumn("n"), 4);
+        final List<Long> sums = new ArrayList<>();
+
+        final long rows = new DataSourceQuery(dataSource, "SELECT X AS n FROM SYSTEM_RANGE(1, 10)")
+                .executeWith(new ColumnarRsh(4, size -> {
+                    long sum = 0;
+                    for (int index = 0; index < size; index++) {
+                        sum += numbers.value(index);
+                    }
+                    sums.add(sum);
+                }, numbers));
+
+        assertEquals(10, rows);
+        assertEquals(Arrays.asList(10L, 26L, 19L), sums);
+    }
+
+    @Test
+    void offHeapRows() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+
+        final OffHeapRows rows = new DataSourceQuery(dataSource,
+                "SELECT X AS n, CASEWHEN(X = 2, NULL, REPEAT('ab', X)) AS s FROM SYSTEM_RANGE(1, 20)")
+                .executeWith(new OffHeapRsh(32, new LongField(new LongColumn("n")), new StringField(new StringColumn("s"))));
+
+        assertEquals(20, rows.size());
+        final BinaryRow tenth = rows.row(9);
+        assertEquals(10L, tenth.longValue());
+        assertEquals("abababababababababab", tenth.stringValue());
+        long sum = 0;
+        int nulls = 0;
+        for (final BinaryRow row : rows) {
+            sum += row.longValue();
+            if (row.stringValue() == null) {
+                nulls++;
+            }
+        }
+        assertEquals(210L, sum);
+        assertEquals(1, nulls);
+        rows.close();
+        assertThrows(IllegalStateException.class, () -> rows.row(0));
+        assertThrows(IllegalStateException.class, rows::iterator);
+    }
+
+    @Test
+    void spilledRows(@TempDir final Path directory) throws SQLException, IOException {
+        final DataSource dataSource = new H2DataSource();
+
+        try (SpilledRows rows = new DataSourceQuery(dataSource,
+                "SELECT X AS n, REPEAT('x', MOD(X, 300)) AS s FROM SYSTEM_RANGE(1, 1000)")
+                .executeWith(new SpillingRsh(
+                        1024, 256, directory,
+                        new LongField(new LongColumn("n")), new StringField(new StringColumn("s"))
+                ))) {
+            assertEquals(1, Files.list(directory).count());
+            for (int pass = 0; pass < 2; pass++) {
+                long sum = 0;
+                long length = 0;
+                for (final BinaryRow row : rows) {
+                    sum += row.longValue();
+                    length += row.stringValue().length();
+                }
+                assertEquals(500_500L, sum);
+                assertEquals(139_600L, length);
+            }
+            assertEquals(1000, rows.size());
+        }
+
+        assertEquals(0, Files.list(directory).count());
+    }
+
+    @Test
+    void failedSpill(@TempDir final Path directory) {
+        final SQLException e = assertThrows(SQLException.class, () -> new DataSourceQuery(
+                new H2DataSource(),
+                "SELECT X AS n FROM SYSTEM_RANGE(1, 1000)"
+        ).executeWith(new SpillingRsh(256, 256, directory.resolve("missing"), new LongField(new LongColumn("n")))));
+
+        assertTrue(e.getCause() instanceof IOException);
+    }
+
+    @Test
+    void notSpilledRows(@TempDir final Path directory) throws SQLException, IOException {
+        final DataSource dataSource = new H2DataSource();
+
+        try (SpilledRows rows = new DataSourceQuery(dataSource, "SELECT X AS n FROM SYSTEM_RANGE(1, 100)")
+                .executeWith(new SpillingRsh(1 << 20, 256, directory, new LongField(new LongColumn("n"))))) {
+            long sum = 0;
+            for (final BinaryRow row : rows) {
+                sum += row.longValue();
+            }
+            assertEquals(5050L, sum);
+            assertEquals(0, Files.list(directory).count());
+        }
+    }
+
+    @Test
+    void publisherWithBackpressure() throws InterruptedException {
+        final DataSource dataSource = new H2DataSource();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            final RecordingSubscriber<Long> subscriber = new RecordingSubscriber<>(3, Long.MAX_VALUE);
+            new DataSourceQuery(dataSource, "SELECT X AS n FROM SYSTEM_RANGE(1, 10)")
+                    .publisher(new LongColumn("n"), executor)
+                    .subscribe(subscriber);
+
+            assertTrue(subscriber.await().completed());
+            assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), subscriber.items());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void cancelledPublisher() throws InterruptedException {
+        final Publisher<Long> publisher = new DataSourceQuery(
+                new H2DataSource(),
+                "SELECT X AS n FROM SYSTEM_RANGE(1, 1000)"
+        ).publisher(new LongColumn("n"), Runnable::run);
+
+        final RecordingSubscriber<Long> first = new RecordingSubscriber<>(2, 5);
+        publisher.subscribe(first);
+        final RecordingSubscriber<Long> second = new RecordingSubscriber<>(1000, Long.MAX_VALUE);
+        publisher.subscribe(second);
+
+        assertEquals(5, first.await().items().size());
+        assertFalse(first.completed());
+        assertEquals(1000, second.await().items().size());
+        assertTrue(second.completed());
+    }
+
+    @Test
+    void failedPublisher() throws InterruptedException {
+        final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(1, Long.MAX_VALUE);
+        new DataSourceQuery(new H2DataSource(), "SELECT title FROM missing")
+                .publisher(new StringColumn("title"), Runnable::run)
+                .subscribe(subscriber);
+
+        assertEquals(1, subscriber.await().errors().size());
+        assertTrue(subscriber.errors().get(0) instanceof SQLException);
+        assertFalse(subscriber.completed());
+    }
+
+    @Test
+    void rejectedPublisherRequest() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            final RecordingSubscriber<Long> subscriber = new RecordingSubscriber<>(0, Long.MAX_VALUE);
+            new DataSourceQuery(new H2DataSource(), "SELECT X AS n FROM SYSTEM_RANGE(1, 10)")
+                    .publisher(new LongColumn("n"), executor)
+                    .subscribe(subscriber);
+
+            assertEquals(1, subscriber.await().errors().size());
+            assertTrue(subscriber.errors().get(0) instanceof IllegalArgumentException);
+            assertTrue(subscriber.items().isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentAsyncQueries() {
+        final DataSource dataSource = new H2DataSource();
+        final ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor();
+
+        final CompletableFuture<long[]> small = new DataSourceQuery(dataSource, "SELECT X AS n FROM SYSTEM_RANGE(1, 10)")
+                .executeWithAsync(new LongColumnToArrayRsh(new LongColumn("n")), executor);
+        final CompletableFuture<long[]> large = new DataSourceQuery(dataSource, "SELECT X AS n FROM SYSTEM_RANGE(1, 1000)")
+                .executeWithAsync(new LongColumnToArrayRsh(new LongColumn("n")), executor);
+
+        assertEquals(1010, small.thenCombine(large, (first, second) -> first.length + second.length).join());
+    }
+
+    @Test
+    void partitionedQuery() throws SQLException {
+        final long[] values = new RealRdbms(new H2DataSource())
+                .partitionedQuery(
+                        new LongPartitions(1, 1001, 7),
+                        "SELECT X AS n FROM SYSTEM_RANGE(1, 2000) WHERE X >= ? AND X < ? ORDER BY X"
+                )
+                .executeWith(
+                        () -> new LongColumnToArrayRsh(new LongColumn("n")),
+                        (first, second) -> {
+                            final long[] both = Arrays.copyOf(first, first.length + second.length);
+                            System.arraycopy(second, 0, both, first.length, second.length);
+                            return both;
+                        },
+                        new ThreadPerTaskExecutor()
+                );
+
+        assertEquals(1000, values.length);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i + 1, values[i]);
+        }
+    }
+
+    @Test
+    void failedPartitionedQuery() {
+        assertThrows(SQLException.class, () -> new RealRdbms(new H2DataSource())
+                .partitionedQuery(new LongPartitions(0, 10, 2), "SELECT n FROM missing WHERE n >= ? AND n < ?")
+                .executeWith(() -> new LongColumnToArrayRsh(new LongColumn("n")), (first, second) -> first, Runnable::run));
+    }
+
+    @Test
+    void failuresOfPartitionsInRangeOrder() {
+        final SQLException failure = assertThrows(SQLException.class, () -> new RealRdbms(new H2DataSource())
+                .partitionedQuery(new LongPartitions(0, 4, 4),
+                        "SELECT CAST(CONCAT('range', CAST(? AS BIGINT)) AS BIGINT) AS n FROM SYSTEM_RANGE(1, 1)"
+                                + " WHERE CAST(? AS BIGINT) > 1")
+                .executeWith(() -> new LongColumnToArrayRsh(new LongColumn("n")), (first, second) -> first, Runnable::run));
+
+        assertTrue(failure.getMessage().contains("range1"));
+        assertEquals(2, failure.getSuppressed().length);
+        assertTrue(failure.getSuppressed()[0].getMessage().contains("range2"));
+    }
+
+    @Test
+    void failedPartitionCancelsOthers() throws InterruptedException {
+        final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        final AtomicInteger handled = new AtomicInteger();
+        final ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Long> call = caller.submit(() -> new RealRdbms(new H2DataSource())
+                    .partitionedQuery(new LongPartitions(0, 4, 4),
+                            "SELECT 1 / CAST(? AS BIGINT) AS n FROM SYSTEM_RANGE(1, 1) WHERE CAST(? AS BIGINT) > 0")
+                    .executeWith(() -> resultSet -> {
+                        resultSet.next();
+                        return (long) handled.incrementAndGet();
+                    }, Long::sum, tasks::add));
+            while (tasks.size() < 4) {
+                Thread.sleep(1);
+            }
+            tasks.get(0).run();
+            final ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> call.get(10, TimeUnit.SECONDS));
+            tasks.forEach(Runnable::run);
+
+            assertTrue(failure.getCause() instanceof SQLException);
+            assertEquals(0, handled.get());
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void partitionRanges() {
+        assertEquals(3, new LongPartitions(0, 3, 10).ranges().size());
+        assertEquals(4, new TimestampPartitions(Instant.EPOCH, Instant.EPOCH.plusSeconds(10), 4).ranges().size());
+        assertThrows(IllegalArgumentException.class, () -> new LongPartitions(5, 5, 2));
+    }
+
+    @Test
+    void extremePartitionRanges() throws SQLException {
+        assertEquals(Arrays.asList("0..4611686018427387904", "4611686018427387904..9223372036854775807"),
+                boundsOf(new LongPartitions(0, Long.MAX_VALUE, 2)));
+        assertEquals(Arrays.asList("9223372036854775797..9223372036854775801",
+                        "9223372036854775801..9223372036854775805", "9223372036854775805..9223372036854775807"),
+                boundsOf(new LongPartitions(Long.MAX_VALUE - 10, Long.MAX_VALUE, 3)));
+        assertEquals(Arrays.asList("-9223372036854775808..0", "0..9223372036854775807"),
+                boundsOf(new LongPartitions(Long.MIN_VALUE, Long.MAX_VALUE, 2)));
+        assertEquals(Arrays.asList("-9223372036854775808..-9223372036854775807",
+                        "-9223372036854775807..-9223372036854775806"),
+                boundsOf(new LongPartitions(Long.MIN_VALUE, Long.MIN_VALUE + 2, 5)));
+    }
+
+    @Test
+    void noPartitionRanges() {
+        assertThrows(SQLException.class, () -> new RealRdbms(new H2DataSource())
+                .partitionedQuery(Collections::emptyList, "SELECT 1 AS n WHERE ? < ?")
+                .executeWith(() -> new LongColumnToArrayRsh(new LongColumn("n")), (first, second) -> first, Runnable::run));
+    }
+
+    private static List<String> boundsOf(final Partitions partitions) throws SQLException {
+        return new RealRdbms(new H2DataSource())
+                .partitionedQuery(partitions, "SELECT CAST(? AS VARCHAR) || '..' || CAST(? AS VARCHAR) AS r")
+                .executeWith(() -> new ColumnToListRsh<>(new StringColumn("r")), (first, second) -> {
+                    final List<String> both = new ArrayList<>(first);
+                    both.addAll(second);
+                    return both;
+                }, Runnable::run);
+    }
+
+    @Test
+    void aggregates() throws SQLException {
+        final Count count = new Count(new LongColumn("n"));
+        final LongSum sum = new LongSum(new LongColumn("n"));
+        final DoubleSum doubleSum = new DoubleSum(new DoubleColumn("n"));
+        final LongMinMax minMax = new LongMinMax(new LongColumn("n"));
+        final DistinctCount distinct = new DistinctCount(new LongColumn("k"));
+        final Histogram histogram = new Histogram(new DoubleColumn("n"), 0, 10_000, 10);
+
+        final long rows = new DataSourceQuery(
+                new H2DataSource(),
+                "SELECT CASE WHEN MOD(X, 10) = 0 THEN NULL ELSE X END AS n, MOD(X, 100) AS k FROM SYSTEM_RANGE(1, 10000)"
+        ).executeWith(new AggregatesRsh(count, sum, doubleSum, minMax, distinct, histogram));
+
+        assertEquals(10_000L, rows);
+        assertEquals(9000L, count.value());
+        assertEquals(45_000_000L, sum.value());
+        assertEquals(45_000_000.0, doubleSum.value());
+        assertEquals(1L, minMax.min().getAsLong());
+        assertEquals(9999L, minMax.max().getAsLong());
+        assertEquals(100L, distinct.value());
+        for (final long bucket : histogram.values()) {
+            assertEquals(900L, bucket);
+        }
+    }
+
+    @Test
+    void distinctCounts() throws SQLException {
+        final DistinctCount longs = new DistinctCount(new LongColumn("n"));
+        final DistinctCount ints = new DistinctCount(new IntColumn("n"), 2);
+        final DistinctCount strings = new DistinctCount(new StringColumn("s"));
+
+        new DataSourceQuery(
+                new H2DataSource(),
+                "SELECT CASE WHEN MOD(X, 7) = 0 THEN NULL ELSE MOD(X, 1000) - 500 END AS n,"
+                        + " CAST(MOD(X, 3000) AS VARCHAR) AS s FROM SYSTEM_RANGE(1, 10000)"
+        ).executeWith(new AggregatesRsh(longs, ints, strings));
+
+        assertEquals(1000L, longs.value());
+        assertEquals(1000L, ints.value());
+        assertEquals(3000L, strings.value());
+    }
+
+    @Test
+    void emptyAggregates() throws SQLException {
+        final DoubleMinMax minMax = new DoubleMinMax(new DoubleColumn("n"));
+        final DistinctCount distinct = new DistinctCount(new LongColumn("n"), 4);
+
+        new DataSourceQuery(new H2DataSource(), "SELECT X AS n FROM SYSTEM_RANGE(1, 0)")
+                .executeWith(new AggregatesRsh(minMax, distinct));
+
+        assertFalse(minMax.min().isPresent());
+        assertFalse(minMax.max().isPresent());
+        assertEquals(0L, distinct.value());
+    }
+
+    @Test
+    void firstRow() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+
+        assertEquals(1L, new DataSourceQuery(dataSource, "SELECT X AS n FROM SYSTEM_RANGE(1, 100)")
+                .executeWith(new FirstRowRsh<>(new LongColumn("n"))));
+        assertEquals(-1L, new DataSourceQuery(dataSource, "SELECT X AS n FROM SYSTEM_RANGE(1, 0)")
+                .executeWith(new FirstRowRsh<>(new LongColumn("n"), -1L)));
+    }
+
+    @Test
+    void singleRow() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+
+        assertEquals(7L, new DataSourceQuery(dataSource, "SELECT X AS n FROM SYSTEM_RANGE(7, 7)")
+                .executeWith(new SingleRowRsh<>(new LongColumn("n"))));
+        assertThrows(SQLException.class, () -> new DataSourceQuery(dataSource, "SELECT X AS n FROM SYSTEM_RANGE(1, 100)")
+                .executeWith(new SingleRowRsh<>(new LongColumn("n"))));
+        assertThrows(SQLException.class, () -> new DataSourceQuery(dataSource, "SELECT X AS n FROM SYSTEM_RANGE(1, 0)")
+                .executeWith(new SingleRowRsh<>(new LongColumn("n"))));
+    }
+
+    @Test
+    void handlerLimitOverridesQuerySettings() throws SQLException {
+        final int rows = new DataSourceQuery(new H2DataSource(), "SELECT X AS n FROM SYSTEM_RANGE(1, 100)")
+                .with(new MaxRows(50))
+                .executeWith(new ResultSetHandler<Integer>() {
+                    @Override
+                    public Integer handle(final ResultSet resultSet) throws SQLException {
+                        int count = 0;
+                        while (resultSet.next()) {
+                            count++;
+                        }
+                        return count;
+                    }
+
+                    @Override
+                    public Setting setting() {
+                        return new MaxRows(2);
+                    }
+                });
+
+        assertEquals(2, rows);
+    }
+
+    @Test
+    void longKeyMap() throws SQLException {
+        final LongKeyMap<String> map = new DataSourceQuery(
+                new H2DataSource(),
+                "SELECT X - 5000 AS k, CAST(X AS VARCHAR) AS v FROM SYSTEM_RANGE(1, 10000)"
+        ).executeWith(new LongKeyMapRsh<>(new LongColumn("k"), new StringColumn("v"), 4));
+
+        assertEquals(10_000, map.size());
+        assertEquals("5000", map.get(0));
+        assertEquals("1", map.get(-4999));
+        assertEquals("10000", map.get(5000));
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(5001));
+        assertNull(map.get(-5000));
+    }
+
+    @Test
+    void intKeyMapWithDuplicates() throws SQLException {
+        final IntKeyMap<Long> map = new DataSourceQuery(
+                new H2DataSource(),
+                "SELECT MOD(X, 10) AS k, X AS v FROM SYSTEM_RANGE(1, 100) ORDER BY X"
+        ).executeWith(new IntKeyMapRsh<>(new IntColumn("k"), new LongColumn("v")));
+
+        assertEquals(10, map.size());
+        assertEquals(100L, map.get(0));
+        assertEquals(99L, map.get(9));
+        assertFalse(map.containsKey(10));
+    }
+
+    @Test
+    void nullKey() {
+        assertThrows(SQLException.class, () -> new DataSourceQuery(
+                new H2DataSource(),
+                "SELECT CAST(NULL AS BIGINT) AS k, X AS v FROM SYSTEM_RANGE(1, 1)"
+        ).executeWith(new LongKeyMapRsh<>(new LongColumn("k"), new LongColumn("v"))));
+    }
+
+    @Test
+    void csvExport(@TempDir final Path directory) throws SQLException, IOException {
+        final Path file = directory.resolve("books.csv");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            final long rows = new DataSourceQuery(
+                    new H2DataSource(),
+                    "SELECT * FROM (VALUES (-1234567890123, 'Clean Code', 1.5), (0, 'Say \"hi\", Bob', 0.25),"
+                            + " (42, CAST(NULL AS VARCHAR), -2.0), (7, 'Привет, мир', 3.0)) AS t(n, s, d)"
+            ).executeWith(new CsvRsh(
+                    channel,
+                    32,
+                    new LongField(new LongColumn("n")),
+                    new StringField(new StringColumn("s")),
+                    new DoubleField(new DoubleColumn("d"))
+            ));
+            assertEquals(4L, rows);
+        }
+
+        assertEquals(
+                "-1234567890123,Clean Code,1.5\r\n"
+                        + "0,\"Say \"\"hi\"\", Bob\",0.25\r\n"
+                        + "42,,-2.0\r\n"
+                        + "7,\"Привет, мир\",3.0\r\n",
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void malformedStringCsvExport(@TempDir final Path directory) throws SQLException, IOException {
+        final Path file = directory.resolve("malformed.csv");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            new DataSourceQuery(
+                    new H2DataSource(),
+                    "SELECT CAST(? AS VARCHAR) AS s, 1 AS n",
+                    new StringArgument("a\uD800b, c")
+            )
+                    .executeWith(new CsvRsh(
+                            channel,
+                            new StringField(new StringColumn("s")),
+                            new LongField(new LongColumn("n"))
+                    ));
+        }
+
+        assertEquals("\"a?b, c\",1\r\n", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportToClosedChannel(@TempDir final Path directory) throws IOException {
+        final FileChannel channel = FileChannel.open(directory.resolve("closed"), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        channel.close();
+        final DataSourceQuery query = new DataSourceQuery(new H2DataSource(), "SELECT X AS n FROM SYSTEM_RANGE(1, 10)");
+
+        assertThrows(SQLException.class,
+                () -> query.executeWith(new CsvRsh(channel, new LongField(new LongColumn("n")))));
+        assertThrows(SQLException.class,
+                () -> query.executeWith(new ChannelRsh(channel, new LongField(new LongColumn("n")))));
+    }
+
+    @Test
+    void gzipCsvExport(@TempDir final Path directory) throws SQLException, IOException {
+        final Path file = directory.resolve("numbers.csv.gz");
+
+        try (GzipChannel channel = new GzipChannel(FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))) {
+            new DataSourceQuery(new H2DataSource(), "SELECT X AS n FROM SYSTEM_RANGE(1, 10000)")
+                    .executeWith(new CsvRsh(channel, new LongField(new LongColumn("n"))));
+        }
+
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(file))) {
+            final String[] lines = new String(readAll(input), StandardCharsets.UTF_8).split("\r\n");
+            assertEquals(10_000, lines.length);
+            assertEquals("10000", lines[9999]);
+        }
+    }
+
+    @Test
+    void binaryExport(@TempDir final Path directory) throws SQLException, IOException {
+        final Path file = directory.resolve("rows.bin");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            new DataSourceQuery(new H2DataSource(), "SELECT X AS n, REPEAT('x', X * 10) AS s FROM SYSTEM_RANGE(1, 20)")
+                    .executeWith(new ChannelRsh(
+                            channel,
+                            64,
+                            new LongField(new LongColumn("n")),
+                            new StringField(new StringColumn("s"))
+                    ));
+        }
+
+        final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        for (long n = 1; n <= 20; n++) {
+            final int length = bytes.getInt();
+            assertEquals(0, bytes.get());
+            assertEquals(n, bytes.getLong());
+            assertEquals(n * 10, bytes.getInt());
+            bytes.position(bytes.position() + length - 1 - Long.BYTES - Integer.BYTES);
+        }
+        assertFalse(bytes.hasRemaining());
+    }
+
+    @Test
+    void malformedStringBinaryExport(@TempDir final Path directory) throws SQLException, IOException {
+        final Path file = directory.resolve("malformed.bin");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            new DataSourceQuery(new H2DataSource(), "SELECT CAST(? AS VARCHAR) AS s", new StringArgument("a\uD800bc"))
+                    .executeWith(new ChannelRsh(channel, new StringField(new StringColumn("s"))));
+        }
+
+        final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertEquals(Integer.BYTES + 4, bytes.getInt());
+        assertEquals(4, bytes.getInt());
+        final byte[] value = new byte[4];
+        bytes.get(value);
+        assertEquals("a?bc", new String(value, StandardCharsets.UTF_8));
+    }
+
+    private static byte[] readAll(final InputStream input) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] chunk = new byte[8192];
+        for (int read = input.read(chunk); read >= 0; read = input.read(chunk)) {
+            output.write(chunk, 0, read);
+        }
+        return output.toByteArray();
+    }
+
+    @Test
+    void streamedLobs() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new DataSourceChange(dataSource, "CREATE TABLE docs (id INT, b BLOB, c CLOB)").apply();
+        final byte[] content = new byte[1 << 20];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            text.append("строка ").append(i).append('\n');
+        }
+
+        new DataSourceChange(dataSource, "INSERT INTO docs (id, b, c) VALUES (?, ?, ?)",
+                new IntArgument(1),
+                new BinaryStreamArgument(new ByteArrayInputStream(content), content.length),
+                new CharacterStreamArgument(new StringReader(text.toString()))).apply();
+        new DataSourceChange(dataSource, "INSERT INTO docs (id, b, c) VALUES (?, ?, NULL)",
+                new IntArgument(2),
+                new ChannelArgument(Channels.newChannel(new ByteArrayInputStream(content)))).apply();
+
+        final ByteArrayOutputStream blobs = new ByteArrayOutputStream();
+        final List<Long> sizes = new DataSourceQuery(dataSource, "SELECT b FROM docs ORDER BY id")
+                .executeWith(new ColumnToListRsh<>(new BlobColumn("b", Channels.newChannel(blobs))));
+        final ByteArrayOutputStream clobs = new ByteArrayOutputStream();
+        final List<Long> lengths = new DataSourceQuery(dataSource, "SELECT c FROM docs ORDER BY id")
+                .executeWith(new ColumnToListRsh<>(new ClobColumn("c", Channels.newChannel(clobs))));
+        final byte[] bytes = new DataSourceQuery(dataSource, "SELECT b FROM docs WHERE id = 2")
+                .executeWith(new FirstRowRsh<>(new BytesColumn("b")));
+
+        assertEquals(Arrays.asList((long) content.length, (long) content.length), sizes);
+        assertArrayEquals(content, Arrays.copyOf(blobs.toByteArray(), content.length));
+        assertEquals(Arrays.asList((long) text.length(), null), lengths);
+        assertEquals(text.toString(), new String(clobs.toByteArray(), StandardCharsets.UTF_8));
+        assertArrayEquals(content, bytes);
+    }
+}
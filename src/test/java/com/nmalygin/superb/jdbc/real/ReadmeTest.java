@@ -29,7 +29,13 @@ import com.nmalygin.superb.jdbc.api.arguments.IntArgument;
 import com.nmalygin.superb.jdbc.api.arguments.ObjectArgument;
 import com.nmalygin.superb.jdbc.api.arguments.StringArgument;
 import com.nmalygin.superb.jdbc.api.handlers.ColumnToListRsh;
+import com.nmalygin.superb.jdbc.api.handlers.columns.Column;
+import com.nmalygin.superb.jdbc.api.handlers.columns.RowColumn;
 import com.nmalygin.superb.jdbc.api.handlers.columns.StringColumn;
+import com.nmalygin.superb.jdbc.api.settings.FetchSize;
+import com.nmalygin.superb.jdbc.api.settings.MaxRows;
+import com.nmalygin.superb.jdbc.api.settings.QueryTimeout;
+import com.nmalygin.superb.jdbc.api.settings.Settings;
 import com.nmalygin.superb.jdbc.real.testdb.BooksTable;
 import com.nmalygin.superb.jdbc.real.testdb.DataSourceBooksTable;
 import com.nmalygin.superb.jdbc.real.testdb.H2DataSource;
@@ -113,6 +119,40 @@ public class ReadmeTest {
         assertEquals("Clean Code", titles.get(0));
     }
 
+    @Test
+    void queryMappingSeveralColumns() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+        final BooksTable booksTable = new DataSourceBooksTable(dataSource);
+        final UUID cleanCode = UUID.randomUUID();
+        booksTable.insert(cleanCode, "Clean Code");
+
+        class SimpleBook {
+            private final UUID id;
+            private final String title;
+
+            public SimpleBook(UUID id, String title) {
+                this.id = id;
+                this.title = title;
+            }
+        }
+
+        Queries queries = new RealRdbms(dataSource);
+        Column<UUID> id = resultSet -> resultSet.getObject("id", UUID.class);
+        StringColumn title = new StringColumn("title");
+
+        List<SimpleBook> books = queries
+                .query("SELECT id, title FROM books")
+                .executeWith(new ColumnToListRsh<>(
+                        new RowColumn<>(row -> new SimpleBook(row.value(id), row.value(title)), id, title),
+                        1000
+                ));
+
+        assertEquals(1, books.size());
+        assertEquals(cleanCode, books.get(0).id);
+        assertEquals("Clean Code", books.get(0).title);
+    }
+
     @Test
     void queryCustomRsh() throws SQLException {
         final DataSource dataSource = new H2DataSource();
@@ -148,6 +188,27 @@ public class ReadmeTest {
         assertEquals(1, titles.size());
     }
 
+    @Test
+    void queryCursor() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+        final BooksTable booksTable = new DataSourceBooksTable(dataSource);
+        booksTable.insert(UUID.randomUUID(), "Clean Code");
+        booksTable.insert(UUID.randomUUID(), "Code Complete");
+
+        Queries queries = new RealRdbms(dataSource);
+        final List<String> read = new ArrayList<>();
+        try (Cursor<String> titles = queries
+                .query("SELECT title FROM books")
+                .cursor(new StringColumn("title"))) {
+            while (titles.next()) {
+                read.add(titles.value());
+            }
+        }
+
+        assertEquals(2, read.size());
+    }
+
     @Test
     void changeSimpleExample() throws SQLException {
         final DataSource dataSource = new H2DataSource();
@@ -233,4 +294,36 @@ public class ReadmeTest {
 
         assertEquals(2, booksTable.books().size());
     }
+
+    @Test
+    void querySettings() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+        final BooksTable booksTable = new DataSourceBooksTable(dataSource);
+        booksTable.insert(UUID.randomUUID(), "Clean Code");
+
+        Queries queries = new RealRdbms(dataSource);
+        List<String> titles = queries
+                .query("SELECT title FROM books")
+                .with(new FetchSize(500), new QueryTimeout(10))
+                .executeWith(new ColumnToListRsh<>(new StringColumn("title")));
+
+        assertEquals(1, titles.size());
+    }
+
+    @Test
+    void defaultSettings() throws SQLException {
+        final DataSource dataSource = new H2DataSource();
+        new LibraryDB(dataSource).init();
+        final BooksTable booksTable = new DataSourceBooksTable(dataSource);
+        booksTable.insert(UUID.randomUUID(), "Clean Code");
+        booksTable.insert(UUID.randomUUID(), "Code Complete");
+
+        Rdbms rdbms = new RealRdbms(dataSource, new Settings(new MaxRows(1), new QueryTimeout(30)));
+        List<String> titles = rdbms
+                .query("SELECT title FROM books")
+                .executeWith(new ColumnToListRsh<>(new StringColumn("title")));
+
+        assertEquals(1, titles.size());
+    }
 }
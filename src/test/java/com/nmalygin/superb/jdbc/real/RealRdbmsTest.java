@@ -0,0 +1,616 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real;
+
+import com.nmalygin.superb.jdbc.api.Batch;
+import com.nmalygin.superb.jdbc.api.NamedTemplate;
+import com.nmalygin.superb.jdbc.api.Query;
+import com.nmalygin.superb.jdbc.api.Template;
+import com.nmalygin.superb.jdbc.api.Transaction;
+import com.nmalygin.superb.jdbc.api.isolation.ReadCommitted;
+import com.nmalygin.superb.jdbc.api.isolation.Serializable;
+import com.nmalygin.superb.jdbc.api.arguments.ArrayArgument;
+import com.nmalygin.superb.jdbc.api.arguments.InList;
+import com.nmalygin.superb.jdbc.api.arguments.LongArgument;
+import com.nmalygin.superb.jdbc.api.arguments.Named;
+import com.nmalygin.superb.jdbc.api.arguments.StringArgument;
+import com.nmalygin.superb.jdbc.api.executors.ThreadPerTaskExecutor;
+import com.nmalygin.superb.jdbc.api.handlers.ColumnToListRsh;
+import com.nmalygin.superb.jdbc.api.handlers.FirstRowRsh;
+import com.nmalygin.superb.jdbc.api.handlers.aggregates.LongSum;
+import com.nmalygin.superb.jdbc.api.handlers.AggregatesRsh;
+import com.nmalygin.superb.jdbc.api.handlers.binary.ChannelRsh;
+import com.nmalygin.superb.jdbc.api.handlers.binary.DoubleField;
+import com.nmalygin.superb.jdbc.api.handlers.binary.IntField;
+import com.nmalygin.superb.jdbc.api.handlers.binary.LongField;
+import com.nmalygin.superb.jdbc.api.handlers.binary.StringField;
+import com.nmalygin.superb.jdbc.api.handlers.columns.DoubleColumn;
+import com.nmalygin.superb.jdbc.api.handlers.columns.IntColumn;
+import com.nmalygin.superb.jdbc.api.handlers.columns.LongColumn;
+import com.nmalygin.superb.jdbc.api.handlers.columns.RowColumn;
+import com.nmalygin.superb.jdbc.api.handlers.columns.StringColumn;
+import com.nmalygin.superb.jdbc.api.handlers.csv.CsvRsh;
+import com.nmalygin.superb.jdbc.api.imports.BinarySource;
+import com.nmalygin.superb.jdbc.api.pools.PoolDataSource;
+import com.nmalygin.superb.jdbc.api.pools.PoolStats;
+import com.nmalygin.superb.jdbc.api.imports.CsvSource;
+import com.nmalygin.superb.jdbc.api.imports.DoubleCell;
+import com.nmalygin.superb.jdbc.api.imports.IntCell;
+import com.nmalygin.superb.jdbc.api.imports.LongCell;
+import com.nmalygin.superb.jdbc.api.imports.StringCell;
+import com.nmalygin.superb.jdbc.api.settings.DriverDefaults;
+import com.nmalygin.superb.jdbc.real.testdb.H2DataSource;
+import com.nmalygin.superb.jdbc.real.testdb.SingleConnectionDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+final class RealRdbmsTest {
+
+    @Test
+    void loadCsv(@TempDir final Path directory) throws SQLException, IOException {
+        final DataSource dataSource = new H2DataSource();
+        final RealRdbms rdbms = new RealRdbms(dataSource);
+        rdbms.change("CREATE TABLE imported (n BIGINT, s VARCHAR(100), d DOUBLE, i INT)").apply();
+        final Path file = directory.resolve("imported.csv");
+        Files.write(file, ("1,Clean Code,1.5,10\r\n"
+                + "-2,\"Say \"\"hi\"\", Bob\",0.25,-20\n"
+                + "3,,,\r\n"
+                + "4,\"multi\nline\",2e3,40\n"
+                + "5,Привет,-1,50").getBytes(StandardCharsets.UTF_8));
+
+        final long rows = rdbms.load(
+                "INSERT INTO imported (n, s, d, i) VALUES (?, ?, ?, ?)",
+                new CsvSource(file, 40, new LongCell(), new StringCell(), new DoubleCell(), new IntCell()),
+                2
+        );
+
+        final StringColumn n = new StringColumn("n");
+        final StringColumn s = new StringColumn("s");
+        final StringColumn d = new StringColumn("d");
+        final StringColumn i = new StringColumn("i");
+        assertEquals(5L, rows);
+        assertEquals(
+                Arrays.asList("1|Clean Code|1.5|10", "-2|Say \"hi\", Bob|0.25|-20", "3|null|null|null",
+                        "4|multi\nline|2000.0|40", "5|Привет|-1.0|50"),
+                rdbms.query("SELECT n, s, d, i FROM imported ORDER BY ABS(n)").executeWith(new ColumnToListRsh<>(
+                        new RowColumn<>(
+                                row -> row.value(n) + "|" + row.value(s) + "|" + row.value(d) + "|" + row.value(i),
+                                n, s, d, i
+                        )
+                ))
+        );
+    }
+
+    @Test
+    void loadBinary(@TempDir final Path directory) throws SQLException, IOException {
+        final DataSource dataSource = new H2DataSource();
+        final RealRdbms rdbms = new RealRdbms(dataSource);
+        rdbms.change("CREATE TABLE imported (n BIGINT, s VARCHAR(100))").apply();
+        final Path file = directory.resolve("imported.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            rdbms.query("SELECT X AS n, CAST(X AS VARCHAR) AS s FROM SYSTEM_RANGE(1, 1000)")
+                    .executeWith(new ChannelRsh(channel, new LongField(new LongColumn("n")),
+                            new StringField(new StringColumn("s"))));
+        }
+
+        final long rows = rdbms.load(
+                "INSERT INTO imported (n, s) VALUES (?, ?)",
+                new BinarySource(file, 100, new LongCell(), new StringCell()),
+                300
+        );
+
+        final LongSum sum = new LongSum(new LongColumn("n"));
+        rdbms.query("SELECT n FROM imported WHERE CAST(n AS VARCHAR) = s").executeWith(new AggregatesRsh(sum));
+        assertEquals(1000L, rows);
+        assertEquals(500_500L, sum.value());
+    }
+
+    @Test
+    void malformedCsv(@TempDir final Path directory) throws SQLException, IOException {
+        final RealRdbms rdbms = new RealRdbms(new H2DataSource());
+        rdbms.change("CREATE TABLE imported (n BIGINT, s VARCHAR(100))").apply();
+        final Path file = directory.resolve("imported.csv");
+        Files.write(file, "1,one\n2\n".getBytes(StandardCharsets.UTF_8));
+        final Path number = directory.resolve("number.csv");
+        Files.write(number, "1,one\nx,two\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(SQLException.class, () -> rdbms.load(
+                "INSERT INTO imported (n, s) VALUES (?, ?)",
+                new CsvSource(file, new LongCell(), new StringCell()),
+                10
+        ));
+        final SQLException malformed = assertThrows(SQLException.class, () -> rdbms.load(
+                "INSERT INTO imported (n, s) VALUES (?, ?)",
+                new CsvSource(number, new LongCell(), new StringCell()),
+                10
+        ));
+        final SQLException missing = assertThrows(SQLException.class, () -> rdbms.load(
+                "INSERT INTO imported (n, s) VALUES (?, ?)",
+                new CsvSource(directory.resolve("missing.csv"), new LongCell(), new StringCell()),
+                10
+        ));
+        final List<Long> loaded = rdbms.query("SELECT n FROM imported")
+                .executeWith(new ColumnToListRsh<>(new LongColumn("n")));
+        assertEquals(0, loaded.size());
+        assertTrue(malformed.getCause() instanceof NumberFormatException);
+        assertTrue(missing.getCause() instanceof IOException);
+    }
+
+    @Test
+    void csvWithBlankTrailingLines(@TempDir final Path directory) throws SQLException, IOException {
+        final RealRdbms rdbms = new RealRdbms(new H2DataSource());
+        rdbms.change("CREATE TABLE imported (n BIGINT, s VARCHAR(100))").apply();
+        final Path file = directory.resolve("imported.csv");
+        Files.write(file, "1,one\r\n2,two\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+        final Path blank = directory.resolve("blank.csv");
+        Files.write(blank, "\n".getBytes(StandardCharsets.UTF_8));
+
+        final long rows = rdbms.load(
+                "INSERT INTO imported (n, s) VALUES (?, ?)",
+                new CsvSource(file, 12, new LongCell(), new StringCell()),
+                10
+        );
+        final long none = rdbms.load(
+                "INSERT INTO imported (n, s) VALUES (?, ?)",
+                new CsvSource(blank, new LongCell(), new StringCell()),
+                10
+        );
+
+        assertEquals(2L, rows);
+        assertEquals(0L, none);
+        assertEquals(Arrays.asList("one", "two"), rdbms.query("SELECT s FROM imported ORDER BY n")
+                .executeWith(new ColumnToListRsh<>(new StringColumn("s"))));
+    }
+
+    @Test
+    void sharedTemplate() {
+        final RealRdbms rdbms = new RealRdbms(new H2DataSource());
+        final Template template = rdbms.template("SELECT X * ? AS n, '?' AS q FROM SYSTEM_RANGE(1, 1)");
+        final ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor();
+
+        final List<CompletableFuture<Long>> results = LongStream.rangeClosed(1, 16)
+                .mapToObj(factor -> template.query(new LongArgument(factor))
+                        .executeWithAsync(new FirstRowRsh<>(new LongColumn("n")), executor))
+                .collect(Collectors.toList());
+
+        assertEquals(1, template.parameters());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i + 1L, results.get(i).join());
+        }
+    }
+
+    @Test
+    void virtualThreads() throws ReflectiveOperationException {
+        final Method isVirtual;
+        try {
+            isVirtual = Thread.class.getMethod("isVirtual");
+        } catch (NoSuchMethodException e) {
+            assumeTrue(false, "Virtual threads need Java 21+");
+            return;
+        }
+        final CompletableFuture<Thread> thread = new CompletableFuture<>();
+
+        new ThreadPerTaskExecutor().execute(() -> thread.complete(Thread.currentThread()));
+
+        assertEquals(true, isVirtual.invoke(thread.join()));
+    }
+
+    @Test
+    void templateMisuse() {
+        final Template template = new RealRdbms(new H2DataSource()).template("SELECT ? AS s");
+
+        assertThrows(IllegalArgumentException.class, template::query);
+    }
+
+    @Test
+    void commentedTemplate() throws SQLException {
+        final Template template = new RealRdbms(new H2DataSource())
+                .template("SELECT ? AS n -- why?\n/* 'why' ? */ FROM SYSTEM_RANGE(1, 1) -- ?");
+
+        assertEquals(1, template.parameters());
+        assertEquals(7L, template.query(new LongArgument(7)).executeWith(new FirstRowRsh<>(new LongColumn("n"))));
+    }
+
+    @Test
+    void appendedTemplateQuery() throws SQLException {
+        final Template template = new RealRdbms(new H2DataSource())
+                .template("SELECT X AS n FROM SYSTEM_RANGE(1, ?) WHERE X > ?");
+
+        final Query query = template.query(new LongArgument(5), new LongArgument(1));
+        query.append(" AND X < ?", new LongArgument(4));
+
+        assertEquals(Arrays.asList(2L, 3L), query.executeWith(new ColumnToListRsh<>(new LongColumn("n"))));
+        assertEquals(Arrays.asList(2L, 3L, 4L, 5L), template.query(new LongArgument(5), new LongArgument(1))
+                .executeWith(new ColumnToListRsh<>(new LongColumn("n"))));
+    }
+
+    @Test
+    void namedTemplate() throws SQLException {
+        final RealRdbms rdbms = new RealRdbms(new H2DataSource());
+        final NamedTemplate template = rdbms.namedTemplate(
+                "SELECT :factor * X + :factor AS n, ':skipped' AS q, X::VARCHAR AS s FROM SYSTEM_RANGE(:from, :from)"
+        );
+
+        assertEquals("SELECT ? * X + ? AS n, ':skipped' AS q, X::VARCHAR AS s FROM SYSTEM_RANGE(?, ?)",
+                template.parameterizedSql());
+        assertEquals(12L, template.query(new Named("from", new LongArgument(2)), new Named("factor",
+                new LongArgument(4))).executeWith(new FirstRowRsh<>(new LongColumn("n"))));
+    }
+
+    @Test
+    void commentedNamedTemplate() throws SQLException {
+        final NamedTemplate template = new RealRdbms(new H2DataSource()).namedTemplate(
+                "SELECT :n AS n -- :skipped?\n/* :skipped ? */ FROM SYSTEM_RANGE(1, 1)"
+        );
+
+        assertEquals("SELECT ? AS n -- :skipped?\n/* :skipped ? */ FROM SYSTEM_RANGE(1, 1)", template.parameterizedSql());
+        assertEquals(3L, template.query(new Named("n", new LongArgument(3)))
+                .executeWith(new FirstRowRsh<>(new LongColumn("n"))));
+    }
+
+    @Test
+    void namedBatch() throws SQLException {
+        final RealRdbms rdbms = new RealRdbms(new H2DataSource());
+        rdbms.change("CREATE TABLE named (n BIGINT, s VARCHAR(10))").apply();
+        final NamedTemplate template = rdbms.namedTemplate("INSERT INTO named (n, s) VALUES (:n, :s)");
+
+        try (Batch batch = rdbms.batch(template.parameterizedSql())) {
+            for (long n = 1; n <= 3; n++) {
+                batch.put(template.positional(new Named("s", new StringArgument("s" + n)),
+                        new Named("n", new LongArgument(n))));
+            }
+            batch.apply();
+        }
+
+        final LongSum sum = new LongSum(new LongColumn("n"));
+        rdbms.query("SELECT n FROM named WHERE s = 's' || n").executeWith(new AggregatesRsh(sum));
+        assertEquals(6L, sum.value());
+    }
+
+    @Test
+    void namedTemplateMisuse() {
+        final RealRdbms rdbms = new RealRdbms(new H2DataSource());
+        final NamedTemplate template = rdbms.namedTemplate("SELECT :a AS a, :b AS b");
+
+        assertThrows(IllegalArgumentException.class, () -> rdbms.namedTemplate("SELECT :a, ?"));
+        assertThrows(IllegalArgumentException.class, () -> template.query(new Named("a", new LongArgument(1))));
+        assertThrows(IllegalArgumentException.class, () -> template.query(new Named("a", new LongArgument(1)),
+                new Named("b", new LongArgument(2)), new Named("c", new LongArgument(3))));
+    }
+
+    @Test
+    void inList() throws SQLException {
+        final RealRdbms rdbms = new RealRdbms(new H2DataSource());
+        final InList values = new InList(4, LongStream.of(9, 3, 7, 1, 5, 11, 2, 10, 4, 8)
+                .mapToObj(LongArgument::new)
+                .collect(Collectors.toList()));
+
+        final List<Long> found = values.executeWith(
+                chunk -> rdbms.query("SELECT X AS n FROM SYSTEM_RANGE(1, 10) WHERE X IN (" + chunk.placeholders() + ")",
+                        chunk.arguments()),
+                () -> new ColumnToListRsh<>(new LongColumn("n")),
+                (left, right) -> {
+                    final List<Long> merged = new ArrayList<>(left);
+                    merged.addAll(right);
+                    return merged;
+                }
+        );
+
+        assertEquals(Arrays.asList(1L, 3L, 7L, 9L, 2L, 5L, 10L, 4L, 8L), found);
+        assertEquals(Arrays.asList(4, 4, 2), values.chunks().stream().map(chunk -> chunk.arguments().length)
+                .collect(Collectors.toList()));
+        assertEquals("?, ?, ?, ?, ?, ?, ?, ?", new InList(new LongArgument(1), new LongArgument(2),
+                new LongArgument(3), new LongArgument(4), new LongArgument(5)).placeholders());
+        assertThrows(IllegalArgumentException.class, InList::new);
+    }
+
+    @Test
+    void arrayArgument() throws SQLException {
+        final List<Long> found = new RealRdbms(new H2DataSource())
+                .query("SELECT X AS n FROM SYSTEM_RANGE(1, 10) WHERE X = ANY(?)",
+                        new ArrayArgument("BIGINT", 2L, 4L, 12L))
+                .executeWith(new ColumnToListRsh<>(new LongColumn("n")));
+
+        assertEquals(Arrays.asList(2L, 4L), found);
+    }
+
+    @Test
+    void statementCache() throws SQLException {
+        try (Connection physical = new H2DataSource().getConnection()) {
+            final StatementCache cache = new StatementCache(2);
+            final RealRdbms rdbms = new RealRdbms(new SingleConnectionDataSource(physical), new DriverDefaults(), cache);
+            rdbms.change("CREATE TABLE cached (n BIGINT)").apply();
+            for (long n = 1; n <= 4; n++) {
+                rdbms.change("INSERT INTO cached (n) VALUES (?)", new LongArgument(n)).apply();
+                assertEquals(n, rdbms.query("SELECT COUNT(*) AS n FROM cached")
+                        .executeWith(new FirstRowRsh<>(new LongColumn("n"))));
+            }
+
+            assertEquals(3, cache.misses());
+            assertEquals(6, cache.hits());
+        }
+    }
+
+    @Test
+    void pooledRdbms() throws SQLException {
+        try (PoolDataSource pool = new PoolDataSource(new H2DataSource(), 0, 2)) {
+            final StatementCache cache = new StatementCache(8);
+            final RealRdbms rdbms = new RealRdbms(pool, new DriverDefaults(), cache);
+            final ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor();
+
+            final List<CompletableFuture<Long>> results = LongStream.rangeClosed(1, 64)
+                    .mapToObj(n -> rdbms.query("SELECT ? * 2 AS n", new LongArgument(n))
+                            .executeWithAsync(new FirstRowRsh<>(new LongColumn("n")), executor))
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(2L * (i + 1), results.get(i).join());
+            }
+            final PoolStats stats = pool.stats();
+            assertTrue(stats.created() <= 2);
+            assertEquals(stats.total(), stats.idle());
+            assertEquals(64L, stats.borrowed());
+            assertEquals(64L, cache.hits() + cache.misses());
+            assertTrue(cache.misses() <= 2);
+        }
+    }
+
+    @Test
+    void poolTimeoutAndReset() throws SQLException {
+        try (PoolDataSource pool = new PoolDataSource(new H2DataSource(), 0, 1, Duration.ofMinutes(1),
+                Duration.ofMinutes(1), Duration.ofMillis(50))) {
+            final Connection physical;
+            try (Connection connection = pool.getConnection()) {
+                physical = connection.unwrap(Connection.class);
+                assertThrows(SQLTransientConnectionException.class, pool::getConnection);
+                connection.createStatement().execute("CREATE TABLE pooled (n INT)");
+                connection.setAutoCommit(false);
+                connection.createStatement().execute("INSERT INTO pooled (n) VALUES (1)");
+            }
+
+            try (Connection connection = pool.getConnection()) {
+                assertSame(physical, connection.unwrap(Connection.class));
+                assertTrue(connection.getAutoCommit());
+                assertEquals(0L, new ConnectionQuery(connection, "SELECT COUNT(*) AS n FROM pooled")
+                        .executeWith(new FirstRowRsh<>(new LongColumn("n"))));
+            }
+            assertEquals(1L, pool.stats().timedOut());
+        }
+    }
+
+    @Test
+    void poolServesWaitersInOrder() throws SQLException, InterruptedException {
+        try (PoolDataSource pool = new PoolDataSource(new H2DataSource(), 0, 1, Duration.ofMinutes(1),
+                Duration.ofMinutes(1), Duration.ofSeconds(10))) {
+            final List<Integer> order = new CopyOnWriteArrayList<>();
+            final List<Thread> threads = new ArrayList<>();
+            try (Connection ignored = pool.getConnection()) {
+                for (int i = 0; i < 6; i++) {
+                    final int waiter = i;
+                    final Thread thread = new Thread(() -> {
+                        try (Connection connection = pool.getConnection()) {
+                            order.add(waiter);
+                            assertTrue(connection.isValid(1));
+                        } catch (SQLException e) {
+                            order.add(-1);
+                        }
+                    });
+                    thread.start();
+                    threads.add(thread);
+                    while (pool.stats().waiting() <= i) {
+                        Thread.sleep(1);
+                    }
+                }
+            }
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), order);
+            assertEquals(0, pool.stats().waiting());
+            assertEquals(0L, pool.stats().timedOut());
+        }
+    }
+
+    @Test
+    void poolTimesOutWaiters() throws SQLException {
+        try (PoolDataSource pool = new PoolDataSource(new H2DataSource(), 0, 1, Duration.ofMinutes(1),
+                Duration.ofMinutes(1), Duration.ofMillis(100))) {
+            try (Connection ignored = pool.getConnection()) {
+                final List<CompletableFuture<Connection>> borrows = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    borrows.add(CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return pool.getConnection();
+                        } catch (SQLException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, new ThreadPerTaskExecutor()));
+                }
+                for (final CompletableFuture<Connection> borrow : borrows) {
+                    final CompletionException e = assertThrows(CompletionException.class, borrow::join);
+                    assertTrue(e.getCause() instanceof SQLTransientConnectionException);
+                }
+            }
+
+            assertEquals(4L, pool.stats().timedOut());
+            assertEquals(0, pool.stats().waiting());
+            assertEquals(1, pool.stats().idle());
+        }
+    }
+
+    @Test
+    void poolHousekeeping() throws SQLException, InterruptedException {
+        try (PoolDataSource pool = new PoolDataSource(new H2DataSource(), 1, 2, Duration.ofMinutes(1),
+                Duration.ofMillis(20), Duration.ofSeconds(1))) {
+            try (Connection first = pool.getConnection(); Connection second = pool.getConnection()) {
+                assertEquals(2, pool.stats().total());
+                assertTrue(first.isValid(1) && second.isValid(1));
+            }
+            Thread.sleep(300);
+
+            assertEquals(1, pool.stats().total());
+            assertEquals(1, pool.stats().idle());
+        }
+    }
+
+    @Test
+    void poolEvictsBrokenConnections() throws SQLException, InterruptedException {
+        try (PoolDataSource pool = new PoolDataSource(new H2DataSource(), 0, 1)) {
+            final Connection first;
+            try (Connection connection = pool.getConnection()) {
+                first = connection.unwrap(Connection.class);
+                connection.setReadOnly(true);
+            }
+            first.close();
+            Thread.sleep(600);
+
+            final Connection second;
+            try (Connection connection = pool.getConnection()) {
+                second = connection.unwrap(Connection.class);
+                assertNotSame(first, second);
+                assertFalse(connection.isReadOnly());
+                connection.setReadOnly(true);
+            }
+            try (Connection connection = pool.getConnection()) {
+                assertSame(second, connection.unwrap(Connection.class));
+                assertFalse(connection.isReadOnly());
+                connection.abort(Runnable::run);
+            }
+            assertTrue(second.isClosed());
+            assertEquals(0, pool.stats().total());
+            assertEquals(2L, pool.stats().created());
+        }
+    }
+
+    @Test
+    void restoredSessionState() throws SQLException {
+        try (PoolDataSource pool = new PoolDataSource(new H2DataSource(), 0, 1)) {
+            final RealRdbms rdbms = new RealRdbms(pool);
+            rdbms.change("CREATE TABLE restored (n INT)").apply();
+            final int isolation;
+            try (Connection connection = pool.getConnection()) {
+                isolation = connection.getTransactionIsolation();
+            }
+
+            try (Transaction transaction = rdbms.transaction(new Serializable())) {
+                transaction.change("INSERT INTO restored (n) VALUES (1)").apply();
+            }
+            try (Transaction transaction = rdbms.transaction(new ReadCommitted())) {
+                transaction.change("INSERT INTO restored (n) VALUES (2)").apply();
+                transaction.commit();
+            }
+
+            try (Connection connection = pool.getConnection()) {
+                assertTrue(connection.getAutoCommit());
+                assertEquals(isolation, connection.getTransactionIsolation());
+            }
+            assertEquals(Arrays.asList(2L), rdbms.query("SELECT n FROM restored")
+                    .executeWith(new ColumnToListRsh<>(new LongColumn("n"))));
+            assertEquals(Connection.TRANSACTION_SERIALIZABLE, new Serializable().level());
+        }
+    }
+
+    @Test
+    void restoredNonDefaultIsolation() throws SQLException {
+        try (Connection physical = new H2DataSource().getConnection()) {
+            physical.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            final RealRdbms rdbms = new RealRdbms(new SingleConnectionDataSource(physical));
+
+            try (Transaction transaction = rdbms.transaction(new ReadCommitted())) {
+                assertEquals(Connection.TRANSACTION_READ_COMMITTED, physical.getTransactionIsolation());
+                transaction.query("SELECT 1 AS n").executeWith(new FirstRowRsh<>(new LongColumn("n")));
+            }
+
+            assertEquals(Connection.TRANSACTION_SERIALIZABLE, physical.getTransactionIsolation());
+            assertTrue(physical.getAutoCommit());
+        }
+    }
+
+    @Test
+    void nullNumbersRoundTrip(@TempDir final Path directory) throws SQLException, IOException {
+        final RealRdbms rdbms = new RealRdbms(new H2DataSource());
+        rdbms.change("CREATE TABLE source (n BIGINT, i INT, d DOUBLE, s VARCHAR(10))").apply();
+        rdbms.change("INSERT INTO source VALUES (1, 2, 0.5, 'a'), (NULL, NULL, NULL, NULL)").apply();
+        rdbms.change("CREATE TABLE from_csv (n BIGINT, i INT, d DOUBLE, s VARCHAR(10))").apply();
+        rdbms.change("CREATE TABLE from_binary (n BIGINT, i INT, d DOUBLE, s VARCHAR(10))").apply();
+        final Path csv = directory.resolve("source.csv");
+        final Path binary = directory.resolve("source.bin");
+        try (FileChannel csvChannel = FileChannel.open(csv, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+             FileChannel binaryChannel = FileChannel.open(binary, StandardOpenOption.CREATE_NEW,
+                     StandardOpenOption.WRITE)) {
+            rdbms.query("SELECT n, i, d, s FROM source ORDER BY n").executeWith(new CsvRsh(csvChannel,
+                    new LongField(new LongColumn("n")), new IntField(new IntColumn("i")),
+                    new DoubleField(new DoubleColumn("d")), new StringField(new StringColumn("s"))));
+            rdbms.query("SELECT n, i, d, s FROM source ORDER BY n").executeWith(new ChannelRsh(binaryChannel,
+                    new LongField(new LongColumn("n")), new IntField(new IntColumn("i")),
+                    new DoubleField(new DoubleColumn("d")), new StringField(new StringColumn("s"))));
+        }
+
+        rdbms.load("INSERT INTO from_csv VALUES (?, ?, ?, ?)",
+                new CsvSource(csv, new LongCell(), new IntCell(), new DoubleCell(), new StringCell()), 10);
+        rdbms.load("INSERT INTO from_binary VALUES (?, ?, ?, ?)",
+                new BinarySource(binary, new LongCell(), new IntCell(), new DoubleCell(), new StringCell()), 10);
+
+        assertEquals(",,,\r\n1,2,0.5,a\r\n", new String(Files.readAllBytes(csv), StandardCharsets.UTF_8));
+        for (final String table : Arrays.asList("from_csv", "from_binary")) {
+            assertEquals(1L, rdbms.query("SELECT COUNT(*) AS n FROM " + table
+                    + " WHERE n IS NULL AND i IS NULL AND d IS NULL AND s IS NULL")
+                    .executeWith(new FirstRowRsh<>(new LongColumn("n"))));
+            assertEquals(1L, rdbms.query("SELECT COUNT(*) AS n FROM " + table
+                    + " WHERE n = 1 AND i = 2 AND d = 0.5 AND s = 'a'")
+                    .executeWith(new FirstRowRsh<>(new LongColumn("n"))));
+        }
+    }
+}
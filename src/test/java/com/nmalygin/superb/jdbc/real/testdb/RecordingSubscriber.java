@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 Nikolai Malygin
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.nmalygin.superb.jdbc.real.testdb;
+
+import com.nmalygin.superb.jdbc.api.flow.Subscriber;
+import com.nmalygin.superb.jdbc.api.flow.Subscription;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public final class RecordingSubscriber<T> implements Subscriber<T> {
+
+    private final long batch;
+    private final long limit;
+    private final List<T> items = new CopyOnWriteArrayList<>();
+    private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private Subscription subscription;
+    private boolean completed;
+
+    public RecordingSubscriber(final long batch, final long limit) {
+        this.batch = batch;
+        this.limit = limit;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(batch);
+    }
+
+    @Override
+    public void onNext(final T item) {
+        items.add(item);
+        if (items.size() == limit) {
+            subscription.cancel();
+            terminated.countDown();
+        } else if (items.size() % batch == 0) {
+            subscription.request(batch);
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        errors.add(throwable);
+        terminated.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+        terminated.countDown();
+    }
+
+    public RecordingSubscriber<T> await() throws InterruptedException {
+        terminated.await(10, TimeUnit.SECONDS);
+        return this;
+    }
+
+    public List<T> items() {
+        return items;
+    }
+
+    public List<Throwable> errors() {
+        return errors;
+    }
+
+    public boolean completed() {
+        return completed;
+    }
+}